@@ -0,0 +1,54 @@
+package com.talentstream.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    // Recommendation refreshes triggered by job and profile writes. The queue is
+    // bounded so a burst of writes cannot pile up unbounded work; a rejected
+    // refresh is only logged, the periodic full refresh catches up with it.
+    @Bean(name = "recommendationExecutor")
+    public ThreadPoolTaskExecutor recommendationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("recommendation-");
+        executor.setRejectedExecutionHandler(
+                (task, pool) -> logger.warn("Recommendation update queue is full, update dropped"));
+        executor.initialize();
+        return executor;
+    }
+
+    // Bumps the recruiter's alert count after a job application; everything else
+    // is written by the apply statement or the notification outbox. Bounded; when
+    // the queue is full the request thread runs the task itself, which slows
+    // applies down instead of dropping counts.
+    @Bean(name = "applyJobExecutor")
+    public ThreadPoolTaskExecutor applyJobExecutor(
+            @Value("${talentstream.apply.executor.pool-size:4}") int poolSize,
+            @Value("${talentstream.apply.executor.queue-capacity:2000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("apply-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,82 @@
+package com.talentstream.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Postgres specific schema objects that Hibernate's ddl-auto=update cannot
+ * express (generated columns, GIN indexes). Every statement is idempotent and
+ * runs once at startup, after Hibernate has created or updated the tables.
+ * Constraints the application depends on for correctness are created by
+ * REQUIRED_STATEMENTS; startup fails if one of them cannot be applied.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DatabaseSchemaInitializer implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(DatabaseSchemaInitializer.class);
+
+	private static final List<String> STATEMENTS = List.of(
+			// Full-text search over job title (weight A) and description (weight B).
+			"ALTER TABLE job ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+					+ "setweight(to_tsvector('english', coalesce(job_title, '')), 'A') || "
+					+ "setweight(to_tsvector('english', coalesce(description, '')), 'B')) STORED",
+			"CREATE INDEX IF NOT EXISTS idx_job_search_vector ON job USING GIN (search_vector)",
+			// Preferred-location matching compares LOWER(TRIM(location)).
+			"CREATE INDEX IF NOT EXISTS idx_job_location_normalized ON job (lower(trim(location)))");
+
+	private static final List<String> REQUIRED_STATEMENTS = List.of(
+			// ApplyJobService detects repeat applies through ON CONFLICT on this
+			// constraint. ddl-auto skips it when the table already holds duplicate
+			// (applicant, job) rows, so those are merged into the oldest application
+			// first. The block runs as one transaction and only while the constraint
+			// is missing.
+			"DO $$ BEGIN "
+					+ "IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_applyjob_applicant_job') THEN "
+					+ "CREATE TEMP TABLE applyjob_duplicates ON COMMIT DROP AS "
+					+ "SELECT a.applyjobid, k.keep_id FROM applyjob a JOIN ("
+					+ "SELECT applicant_id, job_id, MIN(applyjobid) AS keep_id FROM applyjob "
+					+ "GROUP BY applicant_id, job_id HAVING COUNT(*) > 1) k "
+					+ "ON a.applicant_id = k.applicant_id AND a.job_id = k.job_id WHERE a.applyjobid <> k.keep_id; "
+					+ "UPDATE applicant_status_history h SET applyjobid = d.keep_id FROM applyjob_duplicates d "
+					+ "WHERE h.applyjobid = d.applyjobid; "
+					+ "UPDATE alerts al SET applyjobid = d.keep_id FROM applyjob_duplicates d "
+					+ "WHERE al.applyjobid = d.applyjobid; "
+					+ "UPDATE schedule_interview si SET apply_job_id = d.keep_id FROM applyjob_duplicates d "
+					+ "WHERE si.apply_job_id = d.applyjobid; "
+					+ "UPDATE notification_outbox o SET apply_job_id = d.keep_id FROM applyjob_duplicates d "
+					+ "WHERE o.apply_job_id = d.applyjobid; "
+					+ "DELETE FROM applyjob a USING applyjob_duplicates d WHERE a.applyjobid = d.applyjobid; "
+					+ "ALTER TABLE applyjob ADD CONSTRAINT uk_applyjob_applicant_job UNIQUE (applicant_id, job_id); "
+					+ "END IF; END $$");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		for (String statement : STATEMENTS) {
+			try {
+				jdbcTemplate.execute(statement);
+			} catch (Exception e) {
+				logger.warn("Schema statement failed: {}", statement, e);
+			}
+		}
+		for (String statement : REQUIRED_STATEMENTS) {
+			try {
+				jdbcTemplate.execute(statement);
+			} catch (Exception e) {
+				throw new IllegalStateException("Required schema statement failed: " + statement, e);
+			}
+		}
+	}
+}
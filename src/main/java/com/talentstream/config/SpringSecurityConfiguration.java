@@ -66,6 +66,7 @@ public class SpringSecurityConfiguration {
 						"/applyjob/recruiter/{jobRecruiterId}/appliedapplicants",
 						"/applyjob/recruiters/scheduleInterview/{applyJobId}",
 						"/applyjob/recruiters/applyjob-update-status/{applyJobId}/{newStatus}",
+						"/applyjob/recruiters/{recruiterId}/applyjob-update-status",
 						"/applyjob/recruiter/{recruiterId}/interviews/{status}",
 						"/applyjob/recruiters/applyjobapplicantscount/{recruiterId}",
 						"/applyjob/recruiters/selected/count", "/applyjob/recruiters/countShortlistedAndInterviewed",
@@ -77,7 +78,8 @@ public class SpringSecurityConfiguration {
 						"/job/searchByMinimumQualification", "/job/recruiterssearchBySpecialization",
 						"/job/recruiterssearchBySkillNameAndExperience", "/team/{recruiterId}/team-members",
 						"/team/teammembers/{recruiterId}", "/team/{teamMemberId}",
-						"/team/{teamMemberId}/reset-password", "/job/recruiterscountjobs/{recruiterId}")
+						"/team/{teamMemberId}/reset-password", "/job/recruiterscountjobs/{recruiterId}",
+						"/job/recruiters/{jobId}/best-fit-applicants")
 				.hasAnyRole("JOBRECRUITER")
 				.antMatchers("/jobVisit/applicant/track-visit","/skill-badges/{id}/skill-badges","/skill-badges/save","/savedjob/applicants/deletejob/{applicantId}/{jobId}", "/applicant/{id}/profilestatus",
 						"/applicantprofile/{applicantId}/profile-view", "/applicantprofile/updateprofile/{applicantid}",
@@ -85,9 +87,11 @@ public class SpringSecurityConfiguration {
 						"/applicantprofile/createprofile/{applicantid}", "/applicantprofile/getdetails/{applicantid}",
 						"/applyjob/applicants/applyjob/{applicantId}/{jobId}", "/applyjob/getAppliedJobs/{applicantId}",
 						"/applyjob/getScheduleInterviews/applicant/{applicantId}/{applyJobId}",
-						"/recommendedjob/findrecommendedjob/{applicantId}", "/appicant/viewApplicants",
+						"/recommendedjob/findrecommendedjob/{applicantId}",
+						"/recommendedjob/findrecommendedjob/{applicantId}/cursor", "/appicant/viewApplicants",
 						"/savedjob/applicants/savejob/{applicantId}/{jobId}", "/savedjob/getSavedJobs/{applicantId}",
 						"/searchjob/applicant/searchjobbyskillname/{applicantId}/jobs/{skillName}",
+						"/searchjob/applicant/searchjobbyskillname/{applicantId}/jobs/{skillName}/cursor",
 						"/viewjob/applicant/viewjob/{jobId}", "/applicant-pdf/getresume/{applicantId}",
 						"/applicant-pdf/{applicantId}/upload", "/applicant-image/{applicantId}/upload",
 						"/applicant-image/getphoto/{applicantId}")
@@ -100,7 +104,8 @@ public class SpringSecurityConfiguration {
 						"/applicant/saveApplicant", "/applicant/applicantLogin", "/applicant/applicantsendotp",
 						"/applicant/applicantverify-otp", "/applicant/applicantreset-password/{email}",
 						"/applicant/applicantsignOut", "/applicant/forgotpasswordsendotp", "/swagger-ui/**",
-						"/v3/api-docs/**", "/swagger-resources/**", "/webjars/**","/getAllJobs","/applicant/refreshToken")
+						"/v3/api-docs/**", "/swagger-resources/**", "/webjars/**","/getAllJobs","/applicant/refreshToken",
+						"/admin/recommendations/**")
 				.permitAll()
 				// Additional antMatchers for Swagger
 				.antMatchers(HttpMethod.GET, "/v2/api-docs", "/swagger-ui/**", "/swagger-resources/**", "/webjars/**")
@@ -10,6 +10,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
+import com.talentstream.service.IdempotencyService;
+
 import java.util.Arrays;
 
 @Configuration
@@ -35,7 +37,8 @@ public class WebConfig {
         config.setAllowedHeaders(Arrays.asList(
                 HttpHeaders.AUTHORIZATION,
                 HttpHeaders.CONTENT_TYPE,
-                HttpHeaders.ACCEPT));
+                HttpHeaders.ACCEPT,
+                IdempotencyService.HEADER));
 
         config.setAllowedMethods(Arrays.asList(
                 HttpMethod.GET.name(),
@@ -12,20 +12,24 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.talentstream.dto.BulkStatusUpdateDTO;
+import com.talentstream.dto.BulkStatusUpdateResultDTO;
 import com.talentstream.dto.JobDTO;
 import com.talentstream.dto.ScheduleInterviewDTO;
 import com.talentstream.entity.Alerts;
-import com.talentstream.entity.Applicant;
 import com.talentstream.entity.ApplicantJobInterviewDTO;
 import com.talentstream.entity.ApplicantStatusHistory;
 import com.talentstream.entity.AppliedApplicantInfoDTO;
@@ -33,8 +37,10 @@ import com.talentstream.entity.ApplyJob;
 import com.talentstream.entity.MatchTypes;
 import com.talentstream.entity.ScheduleInterview;
 import com.talentstream.exception.CustomException;
-import com.talentstream.repository.RegisterRepository;
+import com.talentstream.service.AlertCounterService;
+import com.talentstream.service.ApplicantStatusBulkService;
 import com.talentstream.service.ApplyJobService;
+import com.talentstream.service.IdempotencyService;
 import com.talentstream.service.ScheduleInterviewService;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -48,18 +54,27 @@ public class ApplyJobController {
 	private ApplyJobService applyJobService;
 	@Autowired
 	private ScheduleInterviewService scheduleInterviewService;
-
 	@Autowired
-	private RegisterRepository applicantRepository;
+	private ApplicantStatusBulkService applicantStatusBulkService;
+	@Autowired
+	private AlertCounterService alertCounterService;
+	@Autowired
+	private IdempotencyService idempotencyService;
 	
 	private static final String EXCEPTION_OCCURES="An unexpected error occurred.";
 
 	private static final Logger logger = LoggerFactory.getLogger(ApplyJobController.class);
 
 	@PostMapping("/applicants/applyjob/{applicantId}/{jobId}")
-	public ResponseEntity<String> saveJobForApplicant(
+	public ResponseEntity<Object> saveJobForApplicant(
 			@PathVariable long applicantId,
-			@PathVariable long jobId) {
+			@PathVariable long jobId,
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+		return idempotencyService.execute("apply:" + applicantId + ":" + jobId, idempotencyKey,
+				() -> applyJob(applicantId, jobId));
+	}
+
+	private ResponseEntity<String> applyJob(long applicantId, long jobId) {
 		try {
 			logger.info("Request received to save job for applicantId: {} and jobId: {}", applicantId, jobId);
 
@@ -218,6 +233,28 @@ public class ApplyJobController {
 		}
 	}
 
+	// Only the recruiter named in the path may move its own applications.
+	@PutMapping("/recruiters/{recruiterId}/applyjob-update-status")
+	public ResponseEntity<?> bulkUpdateApplicantStatus(@PathVariable Long recruiterId,
+			@RequestBody BulkStatusUpdateDTO request, @AuthenticationPrincipal UserDetails recruiter) {
+		try {
+			logger.info("Request received to update {} applications of recruiterId: {} to status: {}",
+					request.getApplyJobIds() != null ? request.getApplyJobIds().size() : 0, recruiterId,
+					request.getNewStatus());
+			String recruiterEmail = recruiter == null ? null : recruiter.getUsername();
+			BulkStatusUpdateResultDTO result = applicantStatusBulkService.updateStatus(recruiterId, recruiterEmail,
+					request.getApplyJobIds(), request.getNewStatus());
+			return ResponseEntity.ok(result);
+		} catch (CustomException e) {
+			logger.error("Error updating applicant statuses for recruiterId {}: {}", recruiterId, e.getMessage());
+			return ResponseEntity.status(e.getStatus()).body(e.getMessage());
+		} catch (Exception e) {
+			logger.error("Unexpected error updating applicant statuses for recruiterId {}: {}", recruiterId,
+					e.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(EXCEPTION_OCCURES);
+		}
+	}
+
 	@PutMapping("/recruiters/applyjob-update-status/{applyJobId}/{newStatus}")
 	public ResponseEntity<String> updateApplicantStatus(
 			@PathVariable Long applyJobId,
@@ -407,9 +444,8 @@ public class ApplyJobController {
 	public ResponseEntity<Integer> getUnreadAlertCount(@PathVariable long applicantId) {
 		try {
 			logger.info("Request received to get unread alert count for applicant {}", applicantId);
-			Applicant applicant = applicantRepository.findById(applicantId);
-			if (applicant != null) {
-				int unreadAlertCount = applicant.getAlertCount();
+			Integer unreadAlertCount = alertCounterService.applicantCount(applicantId);
+			if (unreadAlertCount != null) {
 				logger.info("Retrieved unread alert count successfully for applicant {}: {}", applicantId,
 						unreadAlertCount);
 				return ResponseEntity.ok(unreadAlertCount);
@@ -0,0 +1,48 @@
+package com.talentstream.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.talentstream.search.SuggestionCategory;
+import com.talentstream.service.AutocompleteService;
+
+@RestController
+@RequestMapping("/autocomplete")
+public class AutocompleteController {
+
+	private static final int MAX_SUGGESTIONS = 20;
+
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	// category is one of skills, titles or locations.
+	@GetMapping("/{category}")
+	public ResponseEntity<Object> suggest(@PathVariable String category, @RequestParam String prefix,
+			@RequestParam(defaultValue = "10") int limit) {
+		SuggestionCategory suggestionCategory;
+		switch (category.toLowerCase()) {
+		case "skills":
+			suggestionCategory = SuggestionCategory.SKILL;
+			break;
+		case "titles":
+			suggestionCategory = SuggestionCategory.TITLE;
+			break;
+		case "locations":
+			suggestionCategory = SuggestionCategory.LOCATION;
+			break;
+		default:
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Unknown autocomplete category: " + category);
+		}
+		List<String> suggestions = autocompleteService.suggest(suggestionCategory, prefix,
+				Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+		return ResponseEntity.ok(suggestions);
+	}
+}
@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.talentstream.dto.CursorPageDTO;
+import com.talentstream.dto.JobCursor;
 import com.talentstream.dto.JobDTO;
 import com.talentstream.exception.CustomException;
 import com.talentstream.repository.ApplicantProfileRepository;
@@ -71,6 +73,23 @@ public class FindRecommendedJobController {
     }
 
 
+    @GetMapping("/findrecommendedjob/{applicantId}/cursor")
+    public ResponseEntity<CursorPageDTO<JobDTO>> recommendJobsForApplicantByCursor(
+            @PathVariable long applicantId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(
+                    finJobService.recommendJobsForApplicantAfter(applicantId, JobCursor.decode(cursor), size));
+        } catch (CustomException ce) {
+            logger.error("Custom exception occurred: {}", ce.getMessage());
+            return ResponseEntity.status(ce.getStatus()).build();
+        } catch (Exception e) {
+            logger.error("Error occurred while processing request", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/countRecommendedJobsForApplicant/{applicantId}")
     public long countRecommendedJobsForApplicant(@PathVariable long applicantId) {
         logger.info("Count of recommended jobs for applicant {} retrieved successfully:",applicantId);
@@ -21,6 +21,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -34,9 +36,14 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.opencsv.CSVReader;
+import com.talentstream.dto.CursorPageDTO;
+import com.talentstream.dto.JobCursor;
 import com.talentstream.dto.JobDTO;
+import com.talentstream.dto.JobKeywordSearchResultDTO;
+import com.talentstream.dto.JobSearchResultDTO;
 import com.talentstream.dto.RecuriterSkillsDTO;
 import com.talentstream.dto.ScreeningAnswersWrapperDTO;
+import com.talentstream.dto.TalentMatchDTO;
 import com.talentstream.entity.Job;
 import com.talentstream.entity.JobSearchCriteria;
 import com.talentstream.entity.RecuriterSkills;
@@ -44,6 +51,7 @@ import com.talentstream.entity.ScreeningQuestion;
 import com.talentstream.exception.CustomException;
 import com.talentstream.service.CompanyLogoService;
 import com.talentstream.service.JobService;
+import com.talentstream.service.TalentSearchService;
 
 @RestController
 @RequestMapping("/job")
@@ -58,6 +66,9 @@ public class JobController {
 	@Autowired
 	private CompanyLogoService companyLogoService;
 
+	@Autowired
+	private TalentSearchService talentSearchService;
+
 	@Autowired
 	public JobController(JobService jobService) {
 		this.jobService = jobService;
@@ -142,23 +153,22 @@ public class JobController {
 		}
 	}
 
+	// With includeFacets=true the hits come back wrapped together with facet counts.
 	@GetMapping("/search")
-	public ResponseEntity<Object> searchJobs(@ModelAttribute JobSearchCriteria searchCriteria) {
+	public ResponseEntity<Object> searchJobs(@ModelAttribute JobSearchCriteria searchCriteria,
+			@RequestParam(defaultValue = "false") boolean includeFacets) {
 		try {
 			List<Job> jobs = jobService.searchJobs(searchCriteria);
 
-			if (jobs.isEmpty()) {
+			if (jobs.isEmpty() && !includeFacets) {
 				return ResponseEntity.notFound().build();
 			}
 
-			List<JobDTO> jobDTOs = jobs.stream().map(job -> {
-				JobDTO jobDTO = modelMapper.map(job, JobDTO.class);
-				jobDTO.setCompanyname(job.getJobRecruiter().getCompanyname());
-				jobDTO.setMobilenumber(job.getJobRecruiter().getMobilenumber());
-				jobDTO.setEmail(job.getJobRecruiter().getEmail());
-				return jobDTO;
-			}).collect(Collectors.toList());
+			List<JobDTO> jobDTOs = jobs.stream().map(this::toSearchResultDTO).collect(Collectors.toList());
 
+			if (includeFacets) {
+				return ResponseEntity.ok(new JobSearchResultDTO(jobDTOs, jobService.getFacetCounts(searchCriteria)));
+			}
 			return ResponseEntity.ok(jobDTOs);
 		} catch (CustomException ce) {
 			LOGGER.error("CustomException occurred while searching jobs: {}", ce.getMessage());
@@ -169,6 +179,67 @@ public class JobController {
 		}
 	}
 
+	// Same search as /search, paginated with the opaque nextCursor of the previous page.
+	@GetMapping("/search/cursor")
+	public ResponseEntity<Object> searchJobsByCursor(@ModelAttribute JobSearchCriteria searchCriteria,
+			@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+		try {
+			CursorPageDTO<Job> jobs = jobService.searchJobsAfter(searchCriteria, JobCursor.decode(cursor), size);
+			return ResponseEntity.ok(jobs.map(this::toSearchResultDTO));
+		} catch (CustomException ce) {
+			LOGGER.error("CustomException occurred while searching jobs: {}", ce.getMessage());
+			return ResponseEntity.status(ce.getStatus()).body(ce.getMessage());
+		} catch (Exception e) {
+			LOGGER.error("Internal server error occurred while searching jobs.", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	// Ranked full-text search over title and description, with highlighted snippets.
+	@GetMapping("/keywordsearch")
+	public ResponseEntity<Object> searchJobsByKeywords(@RequestParam String query,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+		try {
+			List<JobKeywordSearchResultDTO> results = jobService.searchJobsByKeywords(query, page, size);
+			if (results.isEmpty()) {
+				return ResponseEntity.notFound().build();
+			}
+			return ResponseEntity.ok(results);
+		} catch (CustomException ce) {
+			LOGGER.error("CustomException occurred during keyword search: {}", ce.getMessage());
+			return ResponseEntity.status(ce.getStatus()).body(ce.getMessage());
+		} catch (Exception e) {
+			LOGGER.error("Internal server error occurred during keyword search.", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	// Best-fitting applicants for the job across all profiles, not only those who applied.
+	// Only the recruiter who posted the job may ask.
+	@GetMapping("/recruiters/{jobId}/best-fit-applicants")
+	public ResponseEntity<Object> bestFitApplicants(@PathVariable Long jobId,
+			@RequestParam(defaultValue = "20") int limit, @AuthenticationPrincipal UserDetails recruiter) {
+		try {
+			String recruiterEmail = recruiter == null ? null : recruiter.getUsername();
+			List<TalentMatchDTO> matches = talentSearchService.bestFitApplicants(jobId, recruiterEmail, limit);
+			return ResponseEntity.ok(matches);
+		} catch (CustomException ce) {
+			LOGGER.error("CustomException occurred while ranking applicants for job {}: {}", jobId, ce.getMessage());
+			return ResponseEntity.status(ce.getStatus()).body(ce.getMessage());
+		} catch (Exception e) {
+			LOGGER.error("Internal server error occurred while ranking applicants for job {}.", jobId, e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private JobDTO toSearchResultDTO(Job job) {
+		JobDTO jobDTO = modelMapper.map(job, JobDTO.class);
+		jobDTO.setCompanyname(job.getJobRecruiter().getCompanyname());
+		jobDTO.setMobilenumber(job.getJobRecruiter().getMobilenumber());
+		jobDTO.setEmail(job.getJobRecruiter().getEmail());
+		return jobDTO;
+	}
+
 	@GetMapping("/recruiters/viewJobs")
 	public ResponseEntity<Object> getAllJobs() {
 		try {
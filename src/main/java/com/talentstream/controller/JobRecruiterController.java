@@ -43,6 +43,7 @@ import com.talentstream.repository.JobRecruiterRepository;
 import com.talentstream.repository.JobRepository;
 import com.talentstream.repository.RegisterRepository;
 import com.talentstream.response.ResponseHandler;
+import com.talentstream.service.AlertCounterService;
 import com.talentstream.service.EmailService;
 import com.talentstream.service.JobRecruiterService;
 import com.talentstream.service.JwtUtil;
@@ -73,6 +74,9 @@ public class JobRecruiterController {
     @Autowired
     private JobRecruiterRepository recruiterRepository;
 
+    @Autowired
+    private AlertCounterService alertCounterService;
+
     @Autowired
     private JobRepository jobRepository;
 
@@ -253,9 +257,8 @@ public class JobRecruiterController {
     @GetMapping("/appledjobs/{recruiterId}/unread-alert-count")
     public ResponseEntity<Integer> getUnreadAlertCount(@PathVariable long recruiterId) {
         try {
-            JobRecruiter recruiter = recruiterRepository.findByRecruiterId(recruiterId);
-            if (recruiter != null) {
-                int unreadAlertCount = recruiter.getAlertCount();
+            Integer unreadAlertCount = alertCounterService.recruiterCount(recruiterId);
+            if (unreadAlertCount != null) {
                 if (unreadAlertCount == 0) {
                     return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
                 }
@@ -295,9 +298,7 @@ public class JobRecruiterController {
             });
 
             // Reset alert count for the recruiter
-            JobRecruiter recruiter = recruiterRepository.findByRecruiterId(recruiterId);
-            recruiter.setAlertCount(0);
-            recruiterRepository.save(recruiter);
+            alertCounterService.resetRecruiter(recruiterId);
             logger.warn(NO_RECRUITER_FOUND, recruiterId);
             return ResponseEntity.ok(notifications);
         } catch (EntityNotFoundException e) {
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,6 +34,7 @@ import com.talentstream.entity.RazorPayOrder;
 import com.talentstream.entity.VerifyPaymentRequest;
 import com.talentstream.exception.ErrorResponse;
 import com.talentstream.response.SuccessResponseHandler;
+import com.talentstream.service.IdempotencyService;
 import com.talentstream.service.RazorPayService;
 
 @RestController
@@ -43,10 +45,22 @@ public class RazorPayController {
 	@Autowired
 	private RazorPayService razorPayService;
 
-	// Post API to Create Payment Order and inserting order details into database
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	// Post API to Create Payment Order and inserting order details into database.
+	// A retry with the same Idempotency-Key gets the first order back instead of
+	// a new Razorpay order.
 	@PostMapping("/createOrder")
 	public ResponseEntity<Object> createOrder(@Valid @RequestBody CreateOrderRequest createOrderDto,
-			BindingResult bindingResult) {
+			BindingResult bindingResult,
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+		return idempotencyService.execute(
+				"createOrder:" + createOrderDto.getRecruiter_id() + ":" + createOrderDto.getAmount(), idempotencyKey,
+				() -> createOrder(createOrderDto, bindingResult));
+	}
+
+	private ResponseEntity<Object> createOrder(CreateOrderRequest createOrderDto, BindingResult bindingResult) {
 
 		logger.info("Retrieved all jobs successfully.");
 
@@ -0,0 +1,57 @@
+package com.talentstream.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.talentstream.dto.RecommendationBatchStatusDTO;
+import com.talentstream.exception.CustomException;
+import com.talentstream.service.RecommendationBatchService;
+
+// Operator endpoints for the full recommendation recompute. There is no admin
+// role, so callers present the configured admin token; without one configured
+// the endpoints are disabled.
+@RestController
+@RequestMapping("/admin/recommendations")
+public class RecommendationAdminController {
+
+	@Autowired
+	private RecommendationBatchService recommendationBatchService;
+
+	@Value("${talentstream.admin.token:}")
+	private String adminToken;
+
+	@PostMapping("/recompute")
+	public ResponseEntity<RecommendationBatchStatusDTO> recompute(
+			@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+		checkToken(token);
+		boolean started = recommendationBatchService.start("admin");
+		return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+				.body(recommendationBatchService.status());
+	}
+
+	@GetMapping("/recompute/status")
+	public ResponseEntity<RecommendationBatchStatusDTO> status(
+			@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+		checkToken(token);
+		return ResponseEntity.ok(recommendationBatchService.status());
+	}
+
+	// Compared in constant time, so response times do not reveal how much of a
+	// guessed token was right.
+	private void checkToken(String token) {
+		if (adminToken.isEmpty() || token == null || !MessageDigest.isEqual(
+				adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+			throw new CustomException("Not allowed", HttpStatus.FORBIDDEN);
+		}
+	}
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.talentstream.dto.JobDTO;
 import com.talentstream.entity.Job;
 import com.talentstream.exception.CustomException;
+import com.talentstream.service.IdempotencyService;
 import com.talentstream.service.SavedJobService;
 
 @RestController
@@ -24,12 +26,20 @@ public class SavedJobController {
     final ModelMapper modelMapper = new ModelMapper();
     @Autowired
     private SavedJobService savedJobService;
+    @Autowired
+    private IdempotencyService idempotencyService;
    
 
     @PostMapping("/applicants/savejob/{applicantId}/{jobId}")
-    public ResponseEntity<String> saveJobForApplicant(
+    public ResponseEntity<Object> saveJobForApplicant(
             @PathVariable long applicantId,
-            @PathVariable long jobId) {
+            @PathVariable long jobId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("savejob:" + applicantId + ":" + jobId, idempotencyKey,
+                () -> saveJob(applicantId, jobId));
+    }
+
+    private ResponseEntity<String> saveJob(long applicantId, long jobId) {
         try {
             savedJobService.saveJobForApplicant(applicantId, jobId);
             return ResponseEntity.ok("Job saved successfully for the applicant.");
@@ -81,9 +91,15 @@ public class SavedJobController {
     }
 
     @DeleteMapping("/applicants/deletejob/{applicantId}/{jobId}")
-    public ResponseEntity<String> deleteSavedJobForApplicant(
+    public ResponseEntity<Object> deleteSavedJobForApplicant(
             @PathVariable long applicantId,
-            @PathVariable long jobId) {
+            @PathVariable long jobId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("deletejob:" + applicantId + ":" + jobId, idempotencyKey,
+                () -> deleteSavedJob(applicantId, jobId));
+    }
+
+    private ResponseEntity<String> deleteSavedJob(long applicantId, long jobId) {
         try {
             savedJobService.deleteSavedJobForApplicant(applicantId, jobId);
             return ResponseEntity.ok("Job deleted successfully for the applicant.");
@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
  
+import com.talentstream.dto.CursorPageDTO;
+import com.talentstream.dto.JobCursor;
 import com.talentstream.dto.JobDTO;
 import com.talentstream.entity.Job;
 import com.talentstream.exception.CustomException;
@@ -59,4 +61,30 @@ public class SearchForaJobController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+	@GetMapping("/applicant/searchjobbyskillname/{applicantId}/jobs/{skillName}/cursor")
+    public ResponseEntity<CursorPageDTO<JobDTO>> searchJobsBySkillAndApplicantByCursor(
+    		@PathVariable long applicantId,
+            @PathVariable String skillName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+    	try {
+            CursorPageDTO<Job> jobs = jobSearchService.searchJobsBySkillAndApplicantAfter(applicantId, skillName,
+                    JobCursor.decode(cursor), size);
+            return ResponseEntity.ok(jobs.map(job -> {
+                JobDTO jobDTO = modelMapper.map(job, JobDTO.class);
+                jobDTO.setCompanyname(job.getJobRecruiter().getCompanyname());
+                jobDTO.setMobilenumber(job.getJobRecruiter().getMobilenumber());
+                jobDTO.setEmail(job.getJobRecruiter().getEmail());
+                return jobDTO;
+            }));
+        } catch (CustomException e) {
+        	logger.warn("Error coming {}", e.getMessage());
+            return ResponseEntity.status(e.getStatus()).build();
+        } catch (Exception e) {
+        	logger.error("Error while searching jobs by skill", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
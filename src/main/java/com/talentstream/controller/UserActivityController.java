@@ -2,6 +2,8 @@ package com.talentstream.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import com.talentstream.service.UserActivityService;
@@ -14,8 +16,9 @@ public class UserActivityController {
     private UserActivityService userActivityService;
 
     @PostMapping("/log")
-    public ResponseEntity<String> logUserActivity(@RequestBody ActivityRequest activityRequest) {
-        userActivityService.logActivity(activityRequest.getUserId(), activityRequest.getActionType());
+    public ResponseEntity<String> logUserActivity(@RequestBody ActivityRequest activityRequest,
+            @AuthenticationPrincipal UserDetails user) {
+        userActivityService.logActivity(activityRequest.getUserId(), activityRequest.getActionType(), user);
         return ResponseEntity.ok("Log details stored in DB successfully");
     
         
@@ -0,0 +1,27 @@
+package com.talentstream.dto;
+
+import java.util.List;
+
+// Request body of a bulk applicant status change: the applications to move
+// and the status to move them to.
+public class BulkStatusUpdateDTO {
+
+	private List<Long> applyJobIds;
+	private String newStatus;
+
+	public List<Long> getApplyJobIds() {
+		return applyJobIds;
+	}
+
+	public void setApplyJobIds(List<Long> applyJobIds) {
+		this.applyJobIds = applyJobIds;
+	}
+
+	public String getNewStatus() {
+		return newStatus;
+	}
+
+	public void setNewStatus(String newStatus) {
+		this.newStatus = newStatus;
+	}
+}
@@ -0,0 +1,30 @@
+package com.talentstream.dto;
+
+import java.util.List;
+
+// Outcome of a bulk applicant status change. Skipped ids do not exist, belong
+// to another recruiter, or belong to a job without a company name.
+public class BulkStatusUpdateResultDTO {
+
+	private String newStatus;
+	private int updated;
+	private List<Long> skippedApplyJobIds;
+
+	public BulkStatusUpdateResultDTO(String newStatus, int updated, List<Long> skippedApplyJobIds) {
+		this.newStatus = newStatus;
+		this.updated = updated;
+		this.skippedApplyJobIds = skippedApplyJobIds;
+	}
+
+	public String getNewStatus() {
+		return newStatus;
+	}
+
+	public int getUpdated() {
+		return updated;
+	}
+
+	public List<Long> getSkippedApplyJobIds() {
+		return skippedApplyJobIds;
+	}
+}
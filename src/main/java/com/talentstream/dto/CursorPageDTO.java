@@ -0,0 +1,78 @@
+package com.talentstream.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+
+import com.talentstream.entity.Job;
+import com.talentstream.exception.CustomException;
+
+/**
+ * One page of a cursor-paginated feed. nextCursor is null on the last page.
+ */
+public class CursorPageDTO<T> {
+
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private List<T> content;
+	private String nextCursor;
+	private int size;
+
+	public CursorPageDTO() {
+	}
+
+	public CursorPageDTO(List<T> content, String nextCursor) {
+		this.content = content;
+		this.nextCursor = nextCursor;
+		this.size = content.size();
+	}
+
+	public static void checkSize(int size) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new CustomException("size must be between 1 and " + MAX_PAGE_SIZE, HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// Builds a page from a query that fetched up to size + 1 jobs; the extra row
+	// only tells us that there is a next page.
+	public static CursorPageDTO<Job> fromJobs(List<Job> jobs, int size) {
+		if (jobs.size() <= size) {
+			return new CursorPageDTO<>(jobs, null);
+		}
+		List<Job> content = new ArrayList<>(jobs.subList(0, size));
+		Job last = content.get(size - 1);
+		return new CursorPageDTO<>(content, new JobCursor(last.getCreationDate(), last.getId()).encode());
+	}
+
+	public <R> CursorPageDTO<R> map(Function<? super T, ? extends R> mapper) {
+		List<R> mapped = content.stream().map(mapper).collect(Collectors.toList());
+		return new CursorPageDTO<>(mapped, nextCursor);
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public void setContent(List<T> content) {
+		this.content = content;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+}
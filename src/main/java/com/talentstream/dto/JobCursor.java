@@ -0,0 +1,58 @@
+package com.talentstream.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+
+import com.talentstream.exception.CustomException;
+
+/**
+ * Position in a newest-first job feed: the (creationDate, id) of the last job
+ * returned. Clients only ever see the opaque token produced by
+ * {@link #encode()}.
+ */
+public class JobCursor {
+
+	// Sorts after every real job, so seeking past it returns the first page.
+	public static final JobCursor FIRST = new JobCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+	private final LocalDate creationDate;
+	private final Long id;
+
+	public JobCursor(LocalDate creationDate, Long id) {
+		this.creationDate = creationDate;
+		this.id = id;
+	}
+
+	public String encode() {
+		String raw = (creationDate == null ? "" : creationDate.toString()) + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// Returns FIRST for a missing token; rejects anything we did not produce.
+	public static JobCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return FIRST;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(':');
+			String date = raw.substring(0, separator);
+			return new JobCursor(date.isEmpty() ? null : LocalDate.parse(date),
+					Long.valueOf(raw.substring(separator + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new CustomException("Invalid cursor", HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	public LocalDate getCreationDate() {
+		return creationDate;
+	}
+
+	public Long getId() {
+		return id;
+	}
+}
@@ -89,6 +89,7 @@ public class JobDTO implements Serializable {  // <-- Implement Serializable
     private Integer visitorCount;
     private Long applyJobId;
     private String promote = "no";
+    private List<SimilarJobDTO> similarJobs;
 
     public Integer getVisitorCount() {
         return visitorCount;
@@ -376,6 +377,14 @@ public class JobDTO implements Serializable {  // <-- Implement Serializable
 		this.promote = promote;
 	}
 
+	public List<SimilarJobDTO> getSimilarJobs() {
+		return similarJobs;
+	}
+
+	public void setSimilarJobs(List<SimilarJobDTO> similarJobs) {
+		this.similarJobs = similarJobs;
+	}
+
 	
 
 }
@@ -0,0 +1,36 @@
+package com.talentstream.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// One page of job ids plus the total number of matches; what the shared job
+// search cache stores instead of whole Job entities.
+public class JobIdPageDTO {
+
+	private List<Long> jobIds = new ArrayList<>();
+	private long total;
+
+	public JobIdPageDTO() {
+	}
+
+	public JobIdPageDTO(List<Long> jobIds, long total) {
+		this.jobIds = jobIds;
+		this.total = total;
+	}
+
+	public List<Long> getJobIds() {
+		return jobIds;
+	}
+
+	public void setJobIds(List<Long> jobIds) {
+		this.jobIds = jobIds;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public void setTotal(long total) {
+		this.total = total;
+	}
+}
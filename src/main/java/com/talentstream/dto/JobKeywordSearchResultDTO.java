@@ -0,0 +1,22 @@
+package com.talentstream.dto;
+
+/**
+ * Projection returned by the ranked keyword search. The highlight fields wrap
+ * matched terms in &lt;b&gt; tags.
+ */
+public interface JobKeywordSearchResultDTO {
+
+	Long getId();
+
+	String getJobTitle();
+
+	String getLocation();
+
+	String getCompanyName();
+
+	Float getRank();
+
+	String getTitleHighlight();
+
+	String getSnippet();
+}
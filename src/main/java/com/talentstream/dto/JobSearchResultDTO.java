@@ -0,0 +1,35 @@
+package com.talentstream.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job search hits together with facet counts, keyed by facet name and then by
+ * (normalized) facet value.
+ */
+public class JobSearchResultDTO {
+
+	private List<JobDTO> jobs;
+	private Map<String, Map<String, Integer>> facets;
+
+	public JobSearchResultDTO(List<JobDTO> jobs, Map<String, Map<String, Integer>> facets) {
+		this.jobs = jobs;
+		this.facets = facets;
+	}
+
+	public List<JobDTO> getJobs() {
+		return jobs;
+	}
+
+	public void setJobs(List<JobDTO> jobs) {
+		this.jobs = jobs;
+	}
+
+	public Map<String, Map<String, Integer>> getFacets() {
+		return facets;
+	}
+
+	public void setFacets(Map<String, Map<String, Integer>> facets) {
+		this.facets = facets;
+	}
+}
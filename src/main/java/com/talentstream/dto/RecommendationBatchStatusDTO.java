@@ -0,0 +1,89 @@
+package com.talentstream.dto;
+
+import java.time.LocalDateTime;
+
+// Progress and throughput of the current (or last) full recommendation recompute.
+public class RecommendationBatchStatusDTO {
+
+	private boolean running;
+	private String trigger;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long totalApplicants;
+	private long processedApplicants;
+	private long elapsedMs;
+	private double applicantsPerSecond;
+	private String lastError;
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	public void setRunning(boolean running) {
+		this.running = running;
+	}
+
+	public String getTrigger() {
+		return trigger;
+	}
+
+	public void setTrigger(String trigger) {
+		this.trigger = trigger;
+	}
+
+	public LocalDateTime getStartedAt() {
+		return startedAt;
+	}
+
+	public void setStartedAt(LocalDateTime startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	public LocalDateTime getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(LocalDateTime finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public long getTotalApplicants() {
+		return totalApplicants;
+	}
+
+	public void setTotalApplicants(long totalApplicants) {
+		this.totalApplicants = totalApplicants;
+	}
+
+	public long getProcessedApplicants() {
+		return processedApplicants;
+	}
+
+	public void setProcessedApplicants(long processedApplicants) {
+		this.processedApplicants = processedApplicants;
+	}
+
+	public long getElapsedMs() {
+		return elapsedMs;
+	}
+
+	public void setElapsedMs(long elapsedMs) {
+		this.elapsedMs = elapsedMs;
+	}
+
+	public double getApplicantsPerSecond() {
+		return applicantsPerSecond;
+	}
+
+	public void setApplicantsPerSecond(double applicantsPerSecond) {
+		this.applicantsPerSecond = applicantsPerSecond;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(String lastError) {
+		this.lastError = lastError;
+	}
+}
@@ -0,0 +1,74 @@
+package com.talentstream.dto;
+
+import java.io.Serializable;
+
+// A related job shown on the job detail page, with its estimated similarity
+// (0-1) to the job being viewed.
+public class SimilarJobDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+	private String jobTitle;
+	private String companyname;
+	private String location;
+	private int minimumExperience;
+	private int maximumExperience;
+	private double similarity;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getJobTitle() {
+		return jobTitle;
+	}
+
+	public void setJobTitle(String jobTitle) {
+		this.jobTitle = jobTitle;
+	}
+
+	public String getCompanyname() {
+		return companyname;
+	}
+
+	public void setCompanyname(String companyname) {
+		this.companyname = companyname;
+	}
+
+	public String getLocation() {
+		return location;
+	}
+
+	public void setLocation(String location) {
+		this.location = location;
+	}
+
+	public int getMinimumExperience() {
+		return minimumExperience;
+	}
+
+	public void setMinimumExperience(int minimumExperience) {
+		this.minimumExperience = minimumExperience;
+	}
+
+	public int getMaximumExperience() {
+		return maximumExperience;
+	}
+
+	public void setMaximumExperience(int maximumExperience) {
+		this.maximumExperience = maximumExperience;
+	}
+
+	public double getSimilarity() {
+		return similarity;
+	}
+
+	public void setSimilarity(double similarity) {
+		this.similarity = similarity;
+	}
+}
@@ -0,0 +1,109 @@
+package com.talentstream.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// An applicant ranked for a job by talent search, with what matched. Applicant
+// id, name, contact details and profile fields are only set when applied is true.
+public class TalentMatchDTO {
+
+	private int profileId;
+	private boolean applied;
+	private Long applicantId;
+	private String name;
+	private String email;
+	private String mobilenumber;
+	private Integer experience;
+	private String qualification;
+	private String specialization;
+	private List<String> matchedSkills = new ArrayList<>();
+	private double score;
+
+	public int getProfileId() {
+		return profileId;
+	}
+
+	public void setProfileId(int profileId) {
+		this.profileId = profileId;
+	}
+
+	public boolean isApplied() {
+		return applied;
+	}
+
+	public void setApplied(boolean applied) {
+		this.applied = applied;
+	}
+
+	public Long getApplicantId() {
+		return applicantId;
+	}
+
+	public void setApplicantId(Long applicantId) {
+		this.applicantId = applicantId;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getMobilenumber() {
+		return mobilenumber;
+	}
+
+	public void setMobilenumber(String mobilenumber) {
+		this.mobilenumber = mobilenumber;
+	}
+
+	public Integer getExperience() {
+		return experience;
+	}
+
+	public void setExperience(Integer experience) {
+		this.experience = experience;
+	}
+
+	public String getQualification() {
+		return qualification;
+	}
+
+	public void setQualification(String qualification) {
+		this.qualification = qualification;
+	}
+
+	public String getSpecialization() {
+		return specialization;
+	}
+
+	public void setSpecialization(String specialization) {
+		this.specialization = specialization;
+	}
+
+	public List<String> getMatchedSkills() {
+		return matchedSkills;
+	}
+
+	public void setMatchedSkills(List<String> matchedSkills) {
+		this.matchedSkills = matchedSkills;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	public void setScore(double score) {
+		this.score = score;
+	}
+}
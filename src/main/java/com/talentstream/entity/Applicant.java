@@ -55,7 +55,9 @@ public class Applicant {
 	@Column(nullable = false)
 	private String roles = "ROLE_JOBAPPLICANT";
 
-	@Column(columnDefinition = "int default 0")
+	// Owned by AlertCounterService, which changes and reads it; never written by
+	// saving the entity. The column lags behind the pending deltas held in Redis.
+	@Column(columnDefinition = "int default 0", updatable = false)
 	private int alertCount;
 
 	@Column(name = "resume_id", columnDefinition = "VARCHAR(255) DEFAULT 'Not available'")
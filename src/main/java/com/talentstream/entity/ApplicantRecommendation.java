@@ -0,0 +1,48 @@
+package com.talentstream.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * Precomputed recommendations of one applicant: the ranked top-N job ids as a
+ * comma separated list, written by RecommendationSnapshotService.
+ */
+@Entity
+public class ApplicantRecommendation {
+
+	@Id
+	private Long applicantId;
+
+	@Column(columnDefinition = "text", nullable = false)
+	private String jobIds;
+
+	@Column(nullable = false)
+	private LocalDateTime computedAt;
+
+	public Long getApplicantId() {
+		return applicantId;
+	}
+
+	public void setApplicantId(Long applicantId) {
+		this.applicantId = applicantId;
+	}
+
+	public String getJobIds() {
+		return jobIds;
+	}
+
+	public void setJobIds(String jobIds) {
+		this.jobIds = jobIds;
+	}
+
+	public LocalDateTime getComputedAt() {
+		return computedAt;
+	}
+
+	public void setComputedAt(LocalDateTime computedAt) {
+		this.computedAt = computedAt;
+	}
+}
@@ -9,17 +9,27 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
 import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Table(indexes = @Index(name = "idx_applicant_skills_canonical_skill", columnList = "canonical_skill_id"))
 public class ApplicantSkills {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
 	private String skillName;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "canonical_skill_id")
+	@JsonIgnore
+	private Skill canonicalSkill;
 	double experience;
 
 	// Define the ManyToMany relationship with ApplicantProfile
@@ -62,4 +72,11 @@ public class ApplicantSkills {
 		this.experience = experience;
 	}
 
-}
\ No newline at end of file
+	public Skill getCanonicalSkill() {
+		return canonicalSkill;
+	}
+
+	public void setCanonicalSkill(Skill canonicalSkill) {
+		this.canonicalSkill = canonicalSkill;
+	}
+}
@@ -14,6 +14,10 @@ public class AppliedApplicantInfo {
 	private String minimumQualification;
 	private String location;
 	private String newStatus;
+	private String experience;
+	private String qualification;
+	private String profileName;
+	private String profileMobilenumber;
 
 	public AppliedApplicantInfo(Long applyjobid, String name, Long id, String email, String mobile, String newStatus,
 			String jobTitle,Long jobId, String applicantStatus, int minimumExperience,
@@ -32,6 +36,21 @@ public class AppliedApplicantInfo {
 		this.location = location;
 
 	}
+
+	// Listing row joined with the applicant's profile, so the listing needs no
+	// per-applicant profile lookup.
+	public AppliedApplicantInfo(Long applyjobid, String name, Long id, String email, String mobile, String newStatus,
+			String jobTitle, Long jobId, String applicantStatus, int minimumExperience, String minimumQualification,
+			String location, String experience, String qualification, String firstName, String lastName,
+			String alternatePhoneNumber) {
+		this(applyjobid, name, id, email, mobile, newStatus, jobTitle, jobId, applicantStatus, minimumExperience,
+				minimumQualification, location);
+		this.experience = experience;
+		this.qualification = qualification;
+		// No basic details on the profile; the listing skips such rows.
+		this.profileName = firstName == null && lastName == null ? null : firstName + " " + lastName;
+		this.profileMobilenumber = alternatePhoneNumber;
+	}
 	
 	public Long getJobId() {
 		return jobId;
@@ -137,4 +156,20 @@ public class AppliedApplicantInfo {
 		this.location = location;
 	}
 
+	public String getExperience() {
+		return experience;
+	}
+
+	public String getQualification() {
+		return qualification;
+	}
+
+	public String getProfileName() {
+		return profileName;
+	}
+
+	public String getProfileMobilenumber() {
+		return profileMobilenumber;
+	}
+
 }
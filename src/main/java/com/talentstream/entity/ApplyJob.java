@@ -16,9 +16,11 @@ import javax.persistence.Column;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.PrePersist;
+import javax.persistence.UniqueConstraint;
 
 @Entity
-@Table(name = "Applyjob")
+@Table(name = "Applyjob", uniqueConstraints = @UniqueConstraint(name = "uk_applyjob_applicant_job", columnNames = {
+		"applicantId", "job_id" }))
 public class ApplyJob {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
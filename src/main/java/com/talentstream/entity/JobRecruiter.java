@@ -61,7 +61,9 @@ public class JobRecruiter implements Serializable{
 
     }
 
-    @Column(columnDefinition = "int default 0")
+    // Owned by AlertCounterService, which changes and reads it; never written by
+    // saving the entity. The column lags behind the pending deltas held in Redis.
+    @Column(columnDefinition = "int default 0", updatable = false)
     private int alertCount;
 
     public int getAlertCount() {
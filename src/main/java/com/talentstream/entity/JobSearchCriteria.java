@@ -8,6 +8,11 @@ public class JobSearchCriteria {
 	private String employeeType;
 	private String minimumQualification;
 	private String specialization;
+	// Ranges overlap-match the job's own ranges; null leaves a side open.
+	private Integer minExperience;
+	private Integer maxExperience;
+	private Double minSalary;
+	private Double maxSalary;
 
 	public String getSkillName() {
 		return skillName;
@@ -65,4 +70,36 @@ public class JobSearchCriteria {
 		this.specialization = specialization;
 	}
 
+	public Integer getMinExperience() {
+		return minExperience;
+	}
+
+	public void setMinExperience(Integer minExperience) {
+		this.minExperience = minExperience;
+	}
+
+	public Integer getMaxExperience() {
+		return maxExperience;
+	}
+
+	public void setMaxExperience(Integer maxExperience) {
+		this.maxExperience = maxExperience;
+	}
+
+	public Double getMinSalary() {
+		return minSalary;
+	}
+
+	public void setMinSalary(Double minSalary) {
+		this.minSalary = minSalary;
+	}
+
+	public Double getMaxSalary() {
+		return maxSalary;
+	}
+
+	public void setMaxSalary(Double maxSalary) {
+		this.maxSalary = maxSalary;
+	}
+
 }
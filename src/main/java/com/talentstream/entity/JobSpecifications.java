@@ -2,14 +2,22 @@ package com.talentstream.entity;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Predicate;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.talentstream.search.SearchText;
+
 public class JobSpecifications {
 	
 	
 
+    // Same matching rules as the in-memory search index, for the window before
+    // it is built: active jobs only, values compared lower-cased and trimmed,
+    // and every title token must occur in the title.
     public static Specification<Job> searchJobs(
             String skillName,
             String jobTitle,
@@ -23,37 +31,74 @@ public class JobSpecifications {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            if (skillName != null && !skillName.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.join("skillsRequired").get("skillName"), skillName));
-            }
+            predicates.add(criteriaBuilder.notEqual(root.get("status"), "inactive"));
 
-            if (jobTitle != null && !jobTitle.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("jobTitle"), jobTitle));
+            String skill = SearchText.normalize(skillName);
+            if (skill != null) {
+                predicates.add(criteriaBuilder.equal(
+                        normalized(criteriaBuilder, root.join("skillsRequired").get("skillName")), skill));
             }
 
-            if (location != null && !location.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("location"), location));
+            for (String token : SearchText.tokenize(jobTitle)) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("jobTitle")), "%" + token + "%"));
             }
 
-            if (industryType != null && !industryType.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("industryType"), industryType));
-            }
+            addEqual(predicates, criteriaBuilder, root.get("location"), location);
+            addEqual(predicates, criteriaBuilder, root.get("industryType"), industryType);
+            addEqual(predicates, criteriaBuilder, root.get("employeeType"), employeeType);
+            addEqual(predicates, criteriaBuilder, root.get("minimumQualification"), minimumQualification);
+            addEqual(predicates, criteriaBuilder, root.get("specialization"), specialization);
 
-            if (employeeType != null && !employeeType.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("employeeType"), employeeType));
-            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 
-            if (minimumQualification != null && !minimumQualification.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("minimumQualification"), minimumQualification));
-            }
+    private static void addEqual(List<Predicate> predicates, CriteriaBuilder criteriaBuilder,
+            Expression<String> column, String value) {
+        String normalizedValue = SearchText.normalize(value);
+        if (normalizedValue != null) {
+            predicates.add(criteriaBuilder.equal(normalized(criteriaBuilder, column), normalizedValue));
+        }
+    }
+
+    private static Expression<String> normalized(CriteriaBuilder criteriaBuilder, Expression<String> column) {
+        return criteriaBuilder.lower(criteriaBuilder.trim(column));
+    }
 
-            if (specialization != null && !specialization.isEmpty()) {
-                predicates.add(criteriaBuilder.equal(root.get("specialization"), specialization));
+    // Keyset condition: jobs that come after (creationDate, id) in newest-first order.
+    public static Specification<Job> createdBefore(LocalDate creationDate, Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.<LocalDate>get("creationDate"), creationDate),
+                criteriaBuilder.and(criteriaBuilder.equal(root.get("creationDate"), creationDate),
+                        criteriaBuilder.lessThan(root.<Long>get("id"), id)));
+    }
+
+    // Jobs whose experience and salary ranges overlap the requested ones; a
+    // null bound leaves that side open. A job whose maximum is below its
+    // minimum counts as the single value minimum, as in the search index.
+    public static Specification<Job> overlapsRanges(Integer minExperience, Integer maxExperience,
+            Double minSalary, Double maxSalary) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (maxExperience != null) {
+                predicates.add(criteriaBuilder.le(root.<Integer>get("minimumExperience"), maxExperience));
+            }
+            if (minExperience != null) {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.ge(root.<Integer>get("maximumExperience"), minExperience),
+                        criteriaBuilder.ge(root.<Integer>get("minimumExperience"), minExperience)));
+            }
+            if (maxSalary != null) {
+                predicates.add(criteriaBuilder.le(root.<Double>get("minSalary"), maxSalary));
+            }
+            if (minSalary != null) {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.ge(root.<Double>get("maxSalary"), minSalary),
+                        criteriaBuilder.ge(root.<Double>get("minSalary"), minSalary)));
             }
 
-            
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
 }
-
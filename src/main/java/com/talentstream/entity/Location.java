@@ -0,0 +1,91 @@
+package com.talentstream.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+/**
+ * Location dictionary entry: a city (or a well known locality or alternative
+ * name) with its district, state and coordinates. Used to widen an
+ * applicant's preferred locations to nearby places in the same region.
+ */
+@Entity
+public class Location {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@Column(nullable = false)
+	private String city;
+
+	@Column(nullable = false, unique = true)
+	private String normalizedCity;
+
+	private String district;
+
+	@Column(nullable = false)
+	private String state;
+
+	private double latitude;
+
+	private double longitude;
+
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public String getNormalizedCity() {
+		return normalizedCity;
+	}
+
+	public void setNormalizedCity(String normalizedCity) {
+		this.normalizedCity = normalizedCity;
+	}
+
+	public String getDistrict() {
+		return district;
+	}
+
+	public void setDistrict(String district) {
+		this.district = district;
+	}
+
+	public String getState() {
+		return state;
+	}
+
+	public void setState(String state) {
+		this.state = state;
+	}
+
+	public double getLatitude() {
+		return latitude;
+	}
+
+	public void setLatitude(double latitude) {
+		this.latitude = latitude;
+	}
+
+	public double getLongitude() {
+		return longitude;
+	}
+
+	public void setLongitude(double longitude) {
+		this.longitude = longitude;
+	}
+}
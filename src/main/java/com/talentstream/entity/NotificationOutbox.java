@@ -0,0 +1,177 @@
+package com.talentstream.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * An application notification (applicant alert plus email) waiting to be
+ * delivered. Rows are written in the same transaction as the application or
+ * status change they announce and delivered by NotificationOutboxService.
+ */
+@Entity
+@Table(name = "notification_outbox",
+		indexes = @Index(name = "idx_notification_outbox_pending", columnList = "state, next_attempt_at"))
+public class NotificationOutbox {
+
+	public static final String PENDING = "PENDING";
+	public static final String SENT = "SENT";
+	public static final String FAILED = "FAILED";
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long applyJobId;
+
+	@Column(nullable = false)
+	private Long applicantId;
+
+	private String recipientEmail;
+
+	private String companyName;
+
+	private String jobTitle;
+
+	private String applicantStatus;
+
+	@Column(nullable = false)
+	private String state = PENDING;
+
+	// Set once the Alerts row exists, so a retry only resends the email.
+	@Column(nullable = false)
+	private boolean alertCreated;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	private LocalDateTime sentAt;
+
+	@Column(length = 1000)
+	private String lastError;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getApplyJobId() {
+		return applyJobId;
+	}
+
+	public void setApplyJobId(Long applyJobId) {
+		this.applyJobId = applyJobId;
+	}
+
+	public Long getApplicantId() {
+		return applicantId;
+	}
+
+	public void setApplicantId(Long applicantId) {
+		this.applicantId = applicantId;
+	}
+
+	public String getRecipientEmail() {
+		return recipientEmail;
+	}
+
+	public void setRecipientEmail(String recipientEmail) {
+		this.recipientEmail = recipientEmail;
+	}
+
+	public String getCompanyName() {
+		return companyName;
+	}
+
+	public void setCompanyName(String companyName) {
+		this.companyName = companyName;
+	}
+
+	public String getJobTitle() {
+		return jobTitle;
+	}
+
+	public void setJobTitle(String jobTitle) {
+		this.jobTitle = jobTitle;
+	}
+
+	public String getApplicantStatus() {
+		return applicantStatus;
+	}
+
+	public void setApplicantStatus(String applicantStatus) {
+		this.applicantStatus = applicantStatus;
+	}
+
+	public String getState() {
+		return state;
+	}
+
+	public void setState(String state) {
+		this.state = state;
+	}
+
+	public boolean isAlertCreated() {
+		return alertCreated;
+	}
+
+	public void setAlertCreated(boolean alertCreated) {
+		this.alertCreated = alertCreated;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(int attempts) {
+		this.attempts = attempts;
+	}
+
+	public LocalDateTime getNextAttemptAt() {
+		return nextAttemptAt;
+	}
+
+	public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public LocalDateTime getSentAt() {
+		return sentAt;
+	}
+
+	public void setSentAt(LocalDateTime sentAt) {
+		this.sentAt = sentAt;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(String lastError) {
+		this.lastError = lastError;
+	}
+}
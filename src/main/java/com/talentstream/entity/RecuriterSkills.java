@@ -10,12 +10,17 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
 
 import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
+@Table(indexes = @Index(name = "idx_recuriter_skills_canonical_skill", columnList = "canonical_skill_id"))
 public class RecuriterSkills {
 
 	@Id
@@ -40,6 +45,11 @@ public class RecuriterSkills {
 	@Column(nullable = false)
 	private String skillName;
 
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "canonical_skill_id")
+	@JsonIgnore
+	private Skill canonicalSkill;
+
 	public Long getId() {
 		return id;
 	}
@@ -56,4 +66,11 @@ public class RecuriterSkills {
 		this.skillName = skillName;
 	}
 
+	public Skill getCanonicalSkill() {
+		return canonicalSkill;
+	}
+
+	public void setCanonicalSkill(Skill canonicalSkill) {
+		this.canonicalSkill = canonicalSkill;
+	}
 }
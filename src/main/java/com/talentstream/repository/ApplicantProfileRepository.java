@@ -1,7 +1,10 @@
 	package com.talentstream.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,5 +20,29 @@ ApplicantProfile findByApplicantId(long applicantid);
 @Query("SELECT a FROM ApplicantProfile a JOIN FETCH a.skillsRequired WHERE a.applicant.id = :applicantId")
 Optional<ApplicantProfile> findByApplicantIdWithSkills(@Param("applicantId") long applicantId);
 
+@Query("SELECT s.skillName, COUNT(p) FROM ApplicantProfile p JOIN p.skillsRequired s GROUP BY s.skillName")
+List<Object[]> countProfilesBySkillName();
+
+// Recommendation inputs, read in applicant id order a batch at a time.
+@Query("SELECT p.applicant.id, p.experience, p.specialization, p.qualification FROM ApplicantProfile p " +
+       "WHERE p.applicant.id > :afterApplicantId ORDER BY p.applicant.id")
+List<Object[]> findRecommendationProfileRows(@Param("afterApplicantId") long afterApplicantId, Pageable limit);
+
+@Query("SELECT p.applicant.id, p.experience, p.specialization, p.qualification FROM ApplicantProfile p " +
+       "WHERE p.applicant.id IN :applicantIds")
+List<Object[]> findRecommendationProfileRowsByApplicantIds(@Param("applicantIds") Collection<Long> applicantIds);
+
+@Query("SELECT p.applicant.id, s.skillName FROM ApplicantProfile p JOIN p.skillsRequired s " +
+       "WHERE p.applicant.id IN :applicantIds")
+List<Object[]> findSkillRowsByApplicantIds(@Param("applicantIds") Collection<Long> applicantIds);
+
+@Query("SELECT p.applicant.id, l FROM ApplicantProfile p JOIN p.preferredJobLocations l " +
+       "WHERE p.applicant.id IN :applicantIds")
+List<Object[]> findPreferredLocationRowsByApplicantIds(@Param("applicantIds") Collection<Long> applicantIds);
+
+// (applicant id, profile id) pairs of the given applicants.
+@Query("SELECT p.applicant.id, p.profileid FROM ApplicantProfile p WHERE p.applicant.id IN :applicantIds")
+List<Object[]> findProfileIdRowsByApplicantIds(@Param("applicantIds") Collection<Long> applicantIds);
+
 
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.talentstream.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.talentstream.entity.ApplicantRecommendation;
+
+@Repository
+public interface ApplicantRecommendationRepository extends JpaRepository<ApplicantRecommendation, Long> {
+}
@@ -1,5 +1,6 @@
 package com.talentstream.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,6 +27,22 @@ public interface ApplyJobRepository extends JpaRepository<ApplyJob, Long> {
 		       "WHERE r.recruiterId = :jobRecruiterId AND j.status = 'active'")
 		List<AppliedApplicantInfo> findAppliedApplicantsInfo(@Param("jobRecruiterId") long jobRecruiterId);
 
+	// Same rows with the profile columns the recruiter listing shows, in one
+	// query. Applicants without a profile are left out, as the listing skips them.
+	@Query("SELECT NEW com.talentstream.entity.AppliedApplicantInfo(" +
+		       " aj.applyjobid, a.name, a.id, a.email, a.mobilenumber, " +
+		       " j.newStatus, j.jobTitle, j.id, aj.applicantStatus, " +
+		       " j.minimumExperience, j.minimumQualification, j.location, " +
+		       " p.experience, p.qualification, p.basicDetails.firstName, p.basicDetails.lastName, " +
+		       " p.basicDetails.alternatePhoneNumber) " +
+		       "FROM ApplyJob aj " +
+		       "JOIN aj.applicant a " +
+		       "JOIN aj.job j " +
+		       "JOIN j.jobRecruiter r, " +
+		       "ApplicantProfile p " +
+		       "WHERE p.applicant = a AND r.recruiterId = :jobRecruiterId AND j.status = 'active'")
+		List<AppliedApplicantInfo> findAppliedApplicantsWithProfile(@Param("jobRecruiterId") long jobRecruiterId);
+
 	
 	@Query("SELECT NEW com.talentstream.entity.AppliedApplicantInfo(" +
 		       " aj.applyjobid,a.name,a.id, a.email, a.mobilenumber, j.newStatus, j.jobTitle,j.id, aj.applicantStatus, " +
@@ -70,6 +87,13 @@ long countShortlistedAndInterviewedApplicants(@Param("recruiterId") Long recruit
                                            @Param("statusList") List<String> statusList);
 
 	ApplyJob findByJobAndApplicant(Job job, Applicant applicant);
-	
-	
+
+	// (applicant id, job id) pairs, for excluding jobs from recommendations.
+	@Query("SELECT aj.applicant.id, aj.job.id FROM ApplyJob aj WHERE aj.applicant.id IN :applicantIds")
+	List<Object[]> findJobIdRowsByApplicantIds(@Param("applicantIds") Collection<Long> applicantIds);
+
+	// Which of the given applicants applied for the job.
+	@Query("SELECT aj.applicant.id FROM ApplyJob aj WHERE aj.job.id = :jobId AND aj.applicant.id IN :applicantIds")
+	List<Long> findApplicantIdsByJobIdAndApplicantIdIn(@Param("jobId") Long jobId,
+			@Param("applicantIds") Collection<Long> applicantIds);
 }
@@ -1,6 +1,11 @@
 package com.talentstream.repository;
 
+import javax.transaction.Transactional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.talentstream.entity.JobRecruiter;
@@ -18,4 +23,18 @@ public interface JobRecruiterRepository extends JpaRepository<JobRecruiter, Long
 	boolean existsByMobilenumber(String mobilenumber);
 	
 	JobRecruiter findByMobilenumber(String userMobile);
+
+	@Query("SELECT r.alertCount FROM JobRecruiter r WHERE r.recruiterId = :recruiterId")
+	Integer findAlertCountByRecruiterId(@Param("recruiterId") Long recruiterId);
+
+	// In place, so concurrent writers never overwrite each other's change.
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE job_recruiter SET alert_count = GREATEST(0, alert_count + :delta) WHERE recruiter_id = :recruiterId", nativeQuery = true)
+	int addAlertCount(@Param("recruiterId") Long recruiterId, @Param("delta") long delta);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE job_recruiter SET alert_count = 0 WHERE recruiter_id = :recruiterId", nativeQuery = true)
+	int resetAlertCount(@Param("recruiterId") Long recruiterId);
 }
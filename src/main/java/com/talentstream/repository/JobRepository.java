@@ -119,9 +119,15 @@
 package com.talentstream.repository;
  
  
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
  
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -131,6 +137,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
  
+import com.talentstream.dto.JobKeywordSearchResultDTO;
 import com.talentstream.entity.Job;
  
 @Repository
@@ -172,6 +179,11 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
  
 	@Query("SELECT DISTINCT j FROM Job j JOIN j.skillsRequired s WHERE LOWER(s.skillName) = LOWER(:skillName)")
 	Page<Job> findJobsBySkillName(@Param("skillName") String skillName, Pageable pageable);
+
+	// skillIds are canonical skill ids (see SkillDictionaryService).
+	@Query("SELECT j FROM Job j WHERE j.status <> 'inactive' " +
+	       "AND EXISTS (SELECT 1 FROM j.skillsRequired s WHERE s.canonicalSkill.id IN :skillIds)")
+	Page<Job> findJobsBySkillIds(@Param("skillIds") Set<Integer> skillIds, Pageable pageable);
 	
 	@Query("SELECT j FROM Job j WHERE j.alertCount > 0 AND j.recentApplicationDateTime >= :minDateTime AND j.jobRecruiter.recruiterId = :recruiterId")
 	List<Job> findJobsWithAlertCountAndRecentDateTimeGreaterThanAndRecruiterId(
@@ -188,13 +200,25 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
 		       "JOIN j.skillsRequired s " +
 		       "LEFT JOIN SavedJob asj ON asj.job = j  AND asj.applicant.id = :applicantId " +
 		       "WHERE j.status != 'inactive' AND " +
-		       "((LOWER(s.skillName) IN :skillNames) or " +
-		       "(j.location IN :preferredLocations) or " +
-		       "(j.minimumExperience = :experience) or " +
+		       "((s.canonicalSkill.id IN :skillIds) or " +
+		       "(LOWER(TRIM(j.location)) IN :preferredLocations) or " +
+		       "(j.minimumExperience <= :experience AND j.maximumExperience >= :experience) or " +
 		       "(j.specialization = :specialization))")
 		List<Object[]> findJobsMatchingApplicantProfile(
 				@Param("applicantId") long applicantId,
-		       @Param("skillNames") Set<String> skillNames,
+		       @Param("skillIds") Set<Integer> skillIds,
+		       @Param("preferredLocations") Set<String> preferredLocations,
+		       @Param("experience") Integer experience,
+		       @Param("specialization") String specialization);
+		// Same criteria as findJobsMatchingApplicantProfile, counted in the database.
+		@Query("SELECT COUNT(j) FROM Job j " +
+		       "WHERE j.status != 'inactive' AND " +
+		       "(EXISTS (SELECT 1 FROM j.skillsRequired s WHERE s.canonicalSkill.id IN :skillIds) or " +
+		       "(LOWER(TRIM(j.location)) IN :preferredLocations) or " +
+		       "(j.minimumExperience <= :experience AND j.maximumExperience >= :experience) or " +
+		       "(j.specialization = :specialization))")
+		long countJobsMatchingApplicantProfile(
+		       @Param("skillIds") Set<Integer> skillIds,
 		       @Param("preferredLocations") Set<String> preferredLocations,
 		       @Param("experience") Integer experience,
 		       @Param("specialization") String specialization);
@@ -210,12 +234,12 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
 	            "AND aj.id IS NULL " + // Exclude applied jobs
 	            "AND asj.id IS NULL " + // Exclude saved jobs
 	            "AND (LOWER(j.specialization) = LOWER(:specialization) " +
-	            "OR j.minimumExperience = :experience " +
-	            "OR j.location IN :preferredLocations " +
-	            "OR EXISTS (SELECT 1 FROM j.skillsRequired s WHERE LOWER(s.skillName) IN :skillNames))")
+	            "OR (j.minimumExperience <= :experience AND j.maximumExperience >= :experience) " +
+	            "OR LOWER(TRIM(j.location)) IN :preferredLocations " +
+	            "OR EXISTS (SELECT 1 FROM j.skillsRequired s WHERE s.canonicalSkill.id IN :skillIds))")
 	    Page<Job> findJobsMatchingApplicantProfile(
 	            @Param("applicantId") long applicantId,
-	            @Param("skillNames") Set<String> skillNames,
+	            @Param("skillIds") Set<Integer> skillIds,
 	            @Param("preferredLocations") Set<String> preferredLocations,
 	            @Param("experience") Integer experience,
 	            @Param("specialization") String specialization,
@@ -223,5 +247,98 @@ public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificatio
  
 		@Query("SELECT j FROM Job j WHERE j.id IN :jobIds ORDER BY j.id ASC")
 		Page<Job> findJobsByIds(@Param("jobIds") List<Long> jobIds, Pageable pageable);
+
+	// Which of the given jobs are still active.
+	@Query("SELECT j.id FROM Job j WHERE j.id IN :jobIds AND j.status <> 'inactive'")
+	List<Long> findActiveJobIdsIn(@Param("jobIds") Collection<Long> jobIds);
+
+	// Keyset pages, newest first: only rows after (afterDate, afterId) are read.
+	@Query("SELECT j FROM Job j WHERE j.status <> 'inactive' " +
+	       "AND EXISTS (SELECT 1 FROM j.skillsRequired s WHERE s.canonicalSkill.id IN :skillIds) " +
+	       "AND (j.creationDate < :afterDate OR (j.creationDate = :afterDate AND j.id < :afterId)) " +
+	       "ORDER BY j.creationDate DESC, j.id DESC")
+	List<Job> findJobsBySkillIdsAfter(@Param("skillIds") Set<Integer> skillIds,
+	        @Param("afterDate") LocalDate afterDate,
+	        @Param("afterId") Long afterId,
+	        Pageable limit);
+
+	@Query("SELECT j FROM Job j " +
+	       "WHERE j.status <> 'inactive' " +
+	       "AND NOT EXISTS (SELECT 1 FROM ApplyJob aj WHERE aj.job = j AND aj.applicant.id = :applicantId) " +
+	       "AND NOT EXISTS (SELECT 1 FROM SavedJob asj WHERE asj.job = j AND asj.applicant.id = :applicantId) " +
+	       "AND (LOWER(j.specialization) = LOWER(:specialization) " +
+	       "OR (j.minimumExperience <= :experience AND j.maximumExperience >= :experience) " +
+	       "OR LOWER(TRIM(j.location)) IN :preferredLocations " +
+	       "OR EXISTS (SELECT 1 FROM j.skillsRequired s WHERE s.canonicalSkill.id IN :skillIds)) " +
+	       "AND (j.creationDate < :afterDate OR (j.creationDate = :afterDate AND j.id < :afterId)) " +
+	       "ORDER BY j.creationDate DESC, j.id DESC")
+	List<Job> findJobsMatchingApplicantProfileAfter(
+	        @Param("applicantId") long applicantId,
+	        @Param("skillIds") Set<Integer> skillIds,
+	        @Param("preferredLocations") Set<String> preferredLocations,
+	        @Param("experience") Integer experience,
+	        @Param("specialization") String specialization,
+	        @Param("afterDate") LocalDate afterDate,
+	        @Param("afterId") Long afterId,
+	        Pageable limit);
+
+	// Ranked full-text search on the generated search_vector column. Headlines are
+	// only computed for the rows of the requested page.
+	@Query(value = "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query), " +
+	       "ranked AS (SELECT j.id, ts_rank(j.search_vector, q.query) AS rank FROM job j, q " +
+	       "WHERE j.search_vector @@ q.query AND j.status <> 'inactive' " +
+	       "ORDER BY rank DESC, j.id DESC LIMIT :limit OFFSET :offset) " +
+	       "SELECT j.id AS \"id\", j.job_title AS \"jobTitle\", j.location AS \"location\", " +
+	       "r.companyname AS \"companyName\", ranked.rank AS \"rank\", " +
+	       "ts_headline('english', j.job_title, q.query, 'HighlightAll=true') AS \"titleHighlight\", " +
+	       "ts_headline('english', coalesce(j.description, ''), q.query, 'MaxFragments=2, MinWords=8, MaxWords=25') AS \"snippet\" " +
+	       "FROM ranked JOIN job j ON j.id = ranked.id " +
+	       "LEFT JOIN job_recruiter r ON r.recruiter_id = j.job_recruiter_recruiter_id " +
+	       "CROSS JOIN q " +
+	       "ORDER BY ranked.rank DESC, j.id DESC", nativeQuery = true)
+	List<JobKeywordSearchResultDTO> searchByKeywords(@Param("query") String query,
+	        @Param("limit") int limit,
+	        @Param("offset") int offset);
+
+	// Lightweight rows for the in-memory search index; avoids loading the LOB columns.
+	@Query("SELECT j.id, j.creationDate, j.jobTitle, j.location, j.industryType, j.employeeType, " +
+	       "j.minimumQualification, j.specialization, j.minimumExperience, j.maximumExperience, j.minSalary, " +
+	       "j.maxSalary FROM Job j WHERE j.status <> 'inactive'")
+	List<Object[]> findActiveJobIndexRows();
+
+	@Query("SELECT j.id, s.skillName FROM Job j JOIN j.skillsRequired s WHERE j.status <> 'inactive'")
+	List<Object[]> findActiveJobSkillRows();
+
+	// (job id, skill name) pairs of the given jobs, so a listing loads the
+	// skills of all its jobs at once.
+	@Query("SELECT j.id, s.skillName FROM Job j JOIN j.skillsRequired s WHERE j.id IN :jobIds")
+	List<Object[]> findSkillNameRowsByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+	// Popularity of each value among active jobs, used to weight autocomplete suggestions.
+	@Query("SELECT s.skillName, COUNT(j) FROM Job j JOIN j.skillsRequired s WHERE j.status <> 'inactive' GROUP BY s.skillName")
+	List<Object[]> countActiveJobsBySkillName();
+
+	@Query("SELECT j.jobTitle, COUNT(j) FROM Job j WHERE j.status <> 'inactive' GROUP BY j.jobTitle")
+	List<Object[]> countActiveJobsByTitle();
+
+	@Query("SELECT j.location, COUNT(j) FROM Job j WHERE j.status <> 'inactive' GROUP BY j.location")
+	List<Object[]> countActiveJobsByLocation();
+
+	// Loads the given jobs in one query and keeps the order of the supplied ids.
+	default List<Job> findAllByIdInOrder(List<Long> jobIds) {
+		if (jobIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Long, Job> jobsById = findAllById(jobIds).stream()
+				.collect(Collectors.toMap(Job::getId, Function.identity()));
+		List<Job> jobs = new ArrayList<>(jobIds.size());
+		for (Long jobId : jobIds) {
+			Job job = jobsById.get(jobId);
+			if (job != null) {
+				jobs.add(job);
+			}
+		}
+		return jobs;
+	}
 }
 
@@ -0,0 +1,10 @@
+package com.talentstream.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.talentstream.entity.Location;
+
+@Repository
+public interface LocationRepository extends JpaRepository<Location, Integer> {
+}
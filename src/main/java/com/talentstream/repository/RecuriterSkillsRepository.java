@@ -1,8 +1,11 @@
 package com.talentstream.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.entity.Skill;
 
  
 
@@ -10,5 +13,7 @@ import com.talentstream.entity.RecuriterSkills;
 public interface RecuriterSkillsRepository extends JpaRepository<RecuriterSkills, Long> {
  
 	RecuriterSkills findBySkillName(String skillName);
+
+	Optional<RecuriterSkills> findFirstByCanonicalSkillOrderByIdAsc(Skill canonicalSkill);
    
 }
\ No newline at end of file
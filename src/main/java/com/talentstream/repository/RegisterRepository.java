@@ -2,7 +2,12 @@ package com.talentstream.repository;
 
 import java.util.List;
 
+import javax.transaction.Transactional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.talentstream.entity.Applicant;
@@ -17,5 +22,19 @@ public interface RegisterRepository extends JpaRepository<Applicant,Integer> {
 	boolean existsById(long applicantId);
 	Applicant findByMobilenumber(String userMobile);
 	List<Applicant> findAllByResumeId(String string);
+
+	@Query("SELECT a.alertCount FROM Applicant a WHERE a.id = :applicantId")
+	Integer findAlertCountById(@Param("applicantId") long applicantId);
+
+	// In place, so concurrent writers never overwrite each other's change.
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE applicant SET alert_count = GREATEST(0, alert_count + :delta) WHERE id = :applicantId", nativeQuery = true)
+	int addAlertCount(@Param("applicantId") long applicantId, @Param("delta") long delta);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE applicant SET alert_count = 0 WHERE id = :applicantId", nativeQuery = true)
+	int resetAlertCount(@Param("applicantId") long applicantId);
  
 }
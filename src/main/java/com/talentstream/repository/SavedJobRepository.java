@@ -1,5 +1,6 @@
 package com.talentstream.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,5 +29,8 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
 	@Query("SELECT sj.job.id FROM SavedJob sj " +
 		       "WHERE sj.applicant.id = :applicantId")
 	List<Long> findSavedJobIdsByApplicantId(long applicantId);
-	
+
+	// (applicant id, job id) pairs, for excluding jobs from recommendations.
+	@Query("SELECT sj.applicant.id, sj.job.id FROM SavedJob sj WHERE sj.applicant.id IN :applicantIds")
+	List<Object[]> findJobIdRowsByApplicantIds(@Param("applicantIds") Collection<Long> applicantIds);
 }
@@ -0,0 +1,14 @@
+package com.talentstream.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.talentstream.entity.Skill;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+
+	Optional<Skill> findByNormalizedName(String normalizedName);
+}
@@ -0,0 +1,53 @@
+package com.talentstream.search;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * What an applicant's recommendations are matched on: skills and preferred
+ * locations already expanded (typos, nearby places) and normalized, plus
+ * experience in years, specialization and qualification.
+ */
+public final class ApplicantCriteria {
+
+	private final Long applicantId;
+	private final Set<String> skills;
+	private final Set<String> locations;
+	private final Integer experience;
+	private final String specialization;
+	private final String qualification;
+
+	public ApplicantCriteria(Long applicantId, Set<String> skills, Set<String> locations, Integer experience,
+			String specialization, String qualification) {
+		this.applicantId = applicantId;
+		this.skills = Collections.unmodifiableSet(skills);
+		this.locations = Collections.unmodifiableSet(locations);
+		this.experience = experience;
+		this.specialization = SearchText.normalize(specialization);
+		this.qualification = SearchText.normalize(qualification);
+	}
+
+	public Long getApplicantId() {
+		return applicantId;
+	}
+
+	public Set<String> getSkills() {
+		return skills;
+	}
+
+	public Set<String> getLocations() {
+		return locations;
+	}
+
+	public Integer getExperience() {
+		return experience;
+	}
+
+	public String getSpecialization() {
+		return specialization;
+	}
+
+	public String getQualification() {
+		return qualification;
+	}
+}
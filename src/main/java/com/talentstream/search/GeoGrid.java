@@ -0,0 +1,81 @@
+package com.talentstream.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-size latitude/longitude grid for radius lookups over a few thousand
+ * points. A query only visits the cells overlapping the radius and confirms
+ * each candidate with the haversine distance.
+ *
+ * Not thread safe; build it fully, then only read it.
+ */
+public class GeoGrid {
+
+	private static final double EARTH_RADIUS_KM = 6371.0;
+	private static final double KM_PER_DEGREE = 111.2;
+
+	private final double cellDegrees;
+	private final Map<Long, List<Integer>> cells = new HashMap<>();
+	private final List<double[]> points = new ArrayList<>();
+
+	public GeoGrid(double cellDegrees) {
+		this.cellDegrees = cellDegrees;
+	}
+
+	// Adds a point and returns its id, the position in insertion order.
+	public int add(double latitude, double longitude) {
+		int id = points.size();
+		points.add(new double[] { latitude, longitude });
+		cells.computeIfAbsent(cellKey(cell(latitude), cell(longitude)), k -> new ArrayList<>()).add(id);
+		return id;
+	}
+
+	// Ids of the points within radiusKm of the given coordinates.
+	public List<Integer> within(double latitude, double longitude, double radiusKm) {
+		List<Integer> found = new ArrayList<>();
+		double latSpan = radiusKm / KM_PER_DEGREE;
+		double lonSpan = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+		long minLat = cell(latitude - latSpan);
+		long maxLat = cell(latitude + latSpan);
+		long minLon = cell(longitude - lonSpan);
+		long maxLon = cell(longitude + lonSpan);
+		for (long latCell = minLat; latCell <= maxLat; latCell++) {
+			for (long lonCell = minLon; lonCell <= maxLon; lonCell++) {
+				List<Integer> ids = cells.get(cellKey(latCell, lonCell));
+				if (ids == null) {
+					continue;
+				}
+				for (Integer id : ids) {
+					double[] point = points.get(id);
+					if (distanceKm(latitude, longitude, point[0], point[1]) <= radiusKm) {
+						found.add(id);
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	public int size() {
+		return points.size();
+	}
+
+	private long cell(double degrees) {
+		return (long) Math.floor(degrees / cellDegrees);
+	}
+
+	private static long cellKey(long latCell, long lonCell) {
+		return (latCell << 32) ^ (lonCell & 0xffffffffL);
+	}
+
+	static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLon = Math.toRadians(lon2 - lon1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math.toRadians(lat1))
+				* Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+}
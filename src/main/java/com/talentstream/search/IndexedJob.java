@@ -0,0 +1,163 @@
+package com.talentstream.search;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.talentstream.entity.Job;
+import com.talentstream.entity.RecuriterSkills;
+
+/**
+ * Immutable, normalized snapshot of the searchable part of a {@link Job}. The
+ * index keeps one of these per live document so it can remove a job's old
+ * postings when the job is edited or deactivated.
+ */
+public final class IndexedJob {
+
+	// Newest first, ties broken by the higher id, same order as the job feeds.
+	public static final Comparator<IndexedJob> NEWEST_FIRST = Comparator
+			.comparing(IndexedJob::getCreationDate, Comparator.nullsLast(Comparator.reverseOrder()))
+			.thenComparing(IndexedJob::getId, Comparator.reverseOrder());
+
+	private final Long id;
+	private final LocalDate creationDate;
+	private final String jobTitle;
+	private final Set<String> titleTokens;
+	private final String location;
+	private final String industryType;
+	private final String employeeType;
+	private final String minimumQualification;
+	private final String specialization;
+	private final Set<String> skills;
+	private final int minimumExperience;
+	private final int maximumExperience;
+	private final double minSalary;
+	private final double maxSalary;
+
+	public IndexedJob(Long id, LocalDate creationDate, String jobTitle, String location, String industryType,
+			String employeeType, String minimumQualification, String specialization, Collection<String> skillNames,
+			int minimumExperience, int maximumExperience, double minSalary, double maxSalary) {
+		this.id = id;
+		this.creationDate = creationDate;
+		this.jobTitle = jobTitle;
+		this.titleTokens = Collections.unmodifiableSet(new LinkedHashSet<>(SearchText.tokenize(jobTitle)));
+		this.location = SearchText.normalize(location);
+		this.industryType = SearchText.normalize(industryType);
+		this.employeeType = SearchText.normalize(employeeType);
+		this.minimumQualification = SearchText.normalize(minimumQualification);
+		this.specialization = SearchText.normalize(specialization);
+		Set<String> normalizedSkills = new LinkedHashSet<>();
+		if (skillNames != null) {
+			for (String skillName : skillNames) {
+				String skill = SearchText.normalize(skillName);
+				if (skill != null) {
+					normalizedSkills.add(skill);
+				}
+			}
+		}
+		this.skills = Collections.unmodifiableSet(normalizedSkills);
+		this.minimumExperience = minimumExperience;
+		this.maximumExperience = maximumExperience;
+		this.minSalary = minSalary;
+		this.maxSalary = maxSalary;
+	}
+
+	public static IndexedJob from(Job job) {
+		Set<String> skillNames = new LinkedHashSet<>();
+		if (job.getSkillsRequired() != null) {
+			for (RecuriterSkills skill : job.getSkillsRequired()) {
+				skillNames.add(skill.getSkillName());
+			}
+		}
+		return new IndexedJob(job.getId(), job.getCreationDate(), job.getJobTitle(), job.getLocation(),
+				job.getIndustryType(), job.getEmployeeType(), job.getMinimumQualification(), job.getSpecialization(),
+				skillNames, job.getMinimumExperience(), job.getMaximumExperience(), job.getMinSalary(),
+				job.getMaxSalary());
+	}
+
+	// Returns the normalized keys this job contributes to the given field's
+	// posting lists.
+	public Collection<String> valuesOf(JobIndexField field) {
+		switch (field) {
+		case SKILL:
+			return skills;
+		case TITLE:
+			return titleTokens;
+		case LOCATION:
+			return singleton(location);
+		case INDUSTRY_TYPE:
+			return singleton(industryType);
+		case EMPLOYEE_TYPE:
+			return singleton(employeeType);
+		case MINIMUM_QUALIFICATION:
+			return singleton(minimumQualification);
+		case SPECIALIZATION:
+			return singleton(specialization);
+		default:
+			return Collections.emptySet();
+		}
+	}
+
+	private static Collection<String> singleton(String value) {
+		return value == null ? Collections.emptySet() : Collections.singleton(value);
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public LocalDate getCreationDate() {
+		return creationDate;
+	}
+
+	public String getJobTitle() {
+		return jobTitle;
+	}
+
+	public Set<String> getTitleTokens() {
+		return titleTokens;
+	}
+
+	public String getLocation() {
+		return location;
+	}
+
+	public String getIndustryType() {
+		return industryType;
+	}
+
+	public String getEmployeeType() {
+		return employeeType;
+	}
+
+	public String getMinimumQualification() {
+		return minimumQualification;
+	}
+
+	public String getSpecialization() {
+		return specialization;
+	}
+
+	public Set<String> getSkills() {
+		return skills;
+	}
+
+	public int getMinimumExperience() {
+		return minimumExperience;
+	}
+
+	public int getMaximumExperience() {
+		return maximumExperience;
+	}
+
+	public double getMinSalary() {
+		return minSalary;
+	}
+
+	public double getMaxSalary() {
+		return maxSalary;
+	}
+}
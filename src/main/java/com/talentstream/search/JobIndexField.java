@@ -0,0 +1,14 @@
+package com.talentstream.search;
+
+/**
+ * Fields of a job that get their own posting lists in the in-memory job index.
+ */
+public enum JobIndexField {
+	SKILL,
+	TITLE,
+	LOCATION,
+	INDUSTRY_TYPE,
+	EMPLOYEE_TYPE,
+	MINIMUM_QUALIFICATION,
+	SPECIALIZATION
+}
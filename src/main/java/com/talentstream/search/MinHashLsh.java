@@ -0,0 +1,153 @@
+package com.talentstream.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MinHash signatures of token sets, bucketed by locality sensitive hashing.
+ * A signature has BANDS * ROWS minimum hashes; documents whose signatures
+ * agree on all rows of at least one band share a bucket, so the candidates
+ * for "similar to this set" are found with BANDS hash lookups instead of a
+ * Jaccard comparison against every document. With 16 bands of 4 rows a pair
+ * with Jaccard similarity 0.5 becomes a candidate with probability ~0.64, one
+ * with 0.8 with probability ~1.
+ *
+ * Not thread safe; callers guard access.
+ */
+public class MinHashLsh {
+
+	private static final int BANDS = 16;
+	private static final int ROWS = 4;
+	private static final int HASHES = BANDS * ROWS;
+	private static final long[] SEEDS = new long[HASHES];
+
+	static {
+		long seed = 0x9E3779B97F4A7C15L;
+		for (int i = 0; i < HASHES; i++) {
+			seed = mix(seed + 0x9E3779B97F4A7C15L);
+			SEEDS[i] = seed;
+		}
+	}
+
+	private final Map<Integer, int[]> signatures = new HashMap<>();
+	private final List<Map<Long, Set<Integer>>> buckets = new ArrayList<>(BANDS);
+
+	public MinHashLsh() {
+		for (int band = 0; band < BANDS; band++) {
+			buckets.add(new HashMap<>());
+		}
+	}
+
+	// Null for an empty token set, which is similar to nothing.
+	public static int[] signature(Collection<String> tokens) {
+		if (tokens.isEmpty()) {
+			return null;
+		}
+		int[] signature = new int[HASHES];
+		Arrays.fill(signature, Integer.MAX_VALUE);
+		for (String token : tokens) {
+			long base = hash(token);
+			for (int i = 0; i < HASHES; i++) {
+				int value = (int) (mix(base ^ SEEDS[i]) >>> 33);
+				if (value < signature[i]) {
+					signature[i] = value;
+				}
+			}
+		}
+		return signature;
+	}
+
+	// Share of equal minimum hashes; an estimate of the Jaccard similarity of
+	// the two token sets.
+	public static double similarity(int[] a, int[] b) {
+		int equal = 0;
+		for (int i = 0; i < HASHES; i++) {
+			if (a[i] == b[i]) {
+				equal++;
+			}
+		}
+		return (double) equal / HASHES;
+	}
+
+	public void put(int docId, Collection<String> tokens) {
+		remove(docId);
+		int[] signature = signature(tokens);
+		if (signature == null) {
+			return;
+		}
+		signatures.put(docId, signature);
+		for (int band = 0; band < BANDS; band++) {
+			buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(docId);
+		}
+	}
+
+	public void remove(int docId) {
+		int[] signature = signatures.remove(docId);
+		if (signature == null) {
+			return;
+		}
+		for (int band = 0; band < BANDS; band++) {
+			Map<Long, Set<Integer>> bandBuckets = buckets.get(band);
+			long key = bandKey(signature, band);
+			Set<Integer> bucket = bandBuckets.get(key);
+			if (bucket != null) {
+				bucket.remove(docId);
+				if (bucket.isEmpty()) {
+					bandBuckets.remove(key);
+				}
+			}
+		}
+	}
+
+	public void clear() {
+		signatures.clear();
+		buckets.forEach(Map::clear);
+	}
+
+	public int[] signatureOf(int docId) {
+		return signatures.get(docId);
+	}
+
+	// Documents sharing at least one band with the signature.
+	public Set<Integer> candidates(int[] signature) {
+		Set<Integer> candidates = new HashSet<>();
+		for (int band = 0; band < BANDS; band++) {
+			Set<Integer> bucket = buckets.get(band).get(bandKey(signature, band));
+			if (bucket != null) {
+				candidates.addAll(bucket);
+			}
+		}
+		return candidates;
+	}
+
+	private static long bandKey(int[] signature, int band) {
+		long key = band;
+		for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+			key = mix(key * 31 + signature[row]);
+		}
+		return key;
+	}
+
+	// 64-bit FNV-1a over the characters.
+	private static long hash(String token) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < token.length(); i++) {
+			hash ^= token.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	// SplitMix64 finalizer.
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+}
@@ -0,0 +1,83 @@
+package com.talentstream.search;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Interval index over document ids: every document covers a closed range
+ * [lower, upper] (experience in years, salary). Lower and upper bounds are
+ * kept in two sorted maps, so the documents overlapping a query range are
+ * read from one head map and one tail map, touching only the documents on
+ * the matching side of each bound rather than every document.
+ *
+ * Not thread safe; callers guard access.
+ */
+public class RangeIndex {
+
+	private final TreeMap<Double, List<Integer>> byLower = new TreeMap<>();
+	private final TreeMap<Double, List<Integer>> byUpper = new TreeMap<>();
+
+	// A reversed range (upper below lower) is treated as the single value lower.
+	public void add(int docId, double lower, double upper) {
+		byLower.computeIfAbsent(lower, k -> new ArrayList<>()).add(docId);
+		byUpper.computeIfAbsent(Math.max(lower, upper), k -> new ArrayList<>()).add(docId);
+	}
+
+	// Must be called with the same bounds the document was added with.
+	public void remove(int docId, double lower, double upper) {
+		removeFrom(byLower, lower, docId);
+		removeFrom(byUpper, Math.max(lower, upper), docId);
+	}
+
+	public void clear() {
+		byLower.clear();
+		byUpper.clear();
+	}
+
+	private static void removeFrom(TreeMap<Double, List<Integer>> map, double key, int docId) {
+		List<Integer> docs = map.get(key);
+		if (docs != null) {
+			docs.remove(Integer.valueOf(docId));
+			if (docs.isEmpty()) {
+				map.remove(key);
+			}
+		}
+	}
+
+	// Documents whose range overlaps [from, to]; a null bound is open. Returns
+	// null when both bounds are open, meaning "no constraint".
+	public BitSet overlapping(Double from, Double to) {
+		if (from == null && to == null) {
+			return null;
+		}
+		BitSet result = null;
+		if (to != null) {
+			// lower <= to
+			result = collect(byLower.headMap(to, true));
+		}
+		if (from != null) {
+			// upper >= from
+			BitSet reachingFrom = collect(byUpper.tailMap(from, true));
+			if (result == null) {
+				result = reachingFrom;
+			} else {
+				result.and(reachingFrom);
+			}
+		}
+		return result;
+	}
+
+	private static BitSet collect(NavigableMap<Double, List<Integer>> entries) {
+		BitSet docs = new BitSet();
+		for (Map.Entry<Double, List<Integer>> entry : entries.entrySet()) {
+			for (Integer docId : entry.getValue()) {
+				docs.set(docId);
+			}
+		}
+		return docs;
+	}
+}
@@ -0,0 +1,83 @@
+package com.talentstream.search;
+
+/**
+ * Weighted relevance of a job for an applicant (or of an applicant for a
+ * job), between 0 and the sum of the weights. The skill component is the
+ * share of the job's required skills the applicant has; when both sides are
+ * skill bitsets over the same ordinals it is computed with popcounts.
+ */
+public final class RelevanceScorer {
+
+	// Experience this many years outside the job's range still scores, linearly
+	// less the further it is.
+	public static final int EXPERIENCE_TOLERANCE_YEARS = 2;
+
+	private final double skillWeight;
+	private final double locationWeight;
+	private final double experienceWeight;
+	private final double specializationWeight;
+	private final double qualificationWeight;
+
+	public RelevanceScorer(double skillWeight, double locationWeight, double experienceWeight,
+			double specializationWeight) {
+		this(skillWeight, locationWeight, experienceWeight, specializationWeight, 0);
+	}
+
+	public RelevanceScorer(double skillWeight, double locationWeight, double experienceWeight,
+			double specializationWeight, double qualificationWeight) {
+		this.skillWeight = skillWeight;
+		this.locationWeight = locationWeight;
+		this.experienceWeight = experienceWeight;
+		this.specializationWeight = specializationWeight;
+		this.qualificationWeight = qualificationWeight;
+	}
+
+	public double score(long[] applicantSkills, long[] jobSkills, boolean locationMatch, double experienceFit,
+			boolean specializationMatch) {
+		int required = popcount(jobSkills);
+		double skillShare = required > 0 ? (double) intersectionCount(applicantSkills, jobSkills) / required : 0;
+		return score(skillShare, locationMatch, experienceFit, specializationMatch, false);
+	}
+
+	public double score(double skillShare, boolean locationMatch, double experienceFit, boolean specializationMatch,
+			boolean qualificationMatch) {
+		double score = skillWeight * skillShare + experienceWeight * experienceFit;
+		if (locationMatch) {
+			score += locationWeight;
+		}
+		if (specializationMatch) {
+			score += specializationWeight;
+		}
+		if (qualificationMatch) {
+			score += qualificationWeight;
+		}
+		return score;
+	}
+
+	// 1 inside [minimum, maximum], falling to 0 at EXPERIENCE_TOLERANCE_YEARS
+	// outside it; 0 when the applicant's experience is unknown.
+	public static double experienceFit(Integer experience, int minimum, int maximum) {
+		if (experience == null) {
+			return 0;
+		}
+		int upper = Math.max(minimum, maximum);
+		int distance = experience < minimum ? minimum - experience : Math.max(0, experience - upper);
+		return Math.max(0, 1 - (double) distance / (EXPERIENCE_TOLERANCE_YEARS + 1));
+	}
+
+	public static int popcount(long[] bits) {
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	public static int intersectionCount(long[] a, long[] b) {
+		int count = 0;
+		for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+			count += Long.bitCount(a[i] & b[i]);
+		}
+		return count;
+	}
+}
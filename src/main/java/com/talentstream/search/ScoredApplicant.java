@@ -0,0 +1,21 @@
+package com.talentstream.search;
+
+// An applicant of the applicant index with its relevance for one job.
+public final class ScoredApplicant {
+
+	private final ApplicantCriteria applicant;
+	private final double score;
+
+	public ScoredApplicant(ApplicantCriteria applicant, double score) {
+		this.applicant = applicant;
+		this.score = score;
+	}
+
+	public ApplicantCriteria getApplicant() {
+		return applicant;
+	}
+
+	public double getScore() {
+		return score;
+	}
+}
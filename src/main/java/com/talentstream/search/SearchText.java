@@ -0,0 +1,57 @@
+package com.talentstream.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization rules shared by every in-memory search structure, so that a
+ * value indexed from a job and a value typed into a search box end up as the
+ * same key.
+ */
+public final class SearchText {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	// Keeps '+', '#' and '.' inside tokens so that "c++", "c#" and ".net" survive.
+	private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#.]+");
+
+	private SearchText() {
+	}
+
+	// Lower-cases, trims and collapses inner whitespace; returns null for blank
+	// input.
+	public static String normalize(String value) {
+		if (value == null) {
+			return null;
+		}
+		String normalized = WHITESPACE.matcher(value.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+		return normalized.isEmpty() ? null : normalized;
+	}
+
+	// Splits free text (job titles, search queries) into normalized tokens.
+	public static List<String> tokenize(String value) {
+		List<String> tokens = new ArrayList<>();
+		String normalized = normalize(value);
+		if (normalized == null) {
+			return tokens;
+		}
+		for (String token : TOKEN_SEPARATOR.split(normalized)) {
+			String trimmed = trimDots(token);
+			if (!trimmed.isEmpty()) {
+				tokens.add(trimmed);
+			}
+		}
+		return tokens;
+	}
+
+	private static String trimDots(String token) {
+		int end = token.length();
+		while (end > 0 && token.charAt(end - 1) == '.') {
+			end--;
+		}
+		// A leading dot is meaningful (".net"), a lone one is not.
+		return end == 1 && token.charAt(0) == '.' ? "" : token.substring(0, end);
+	}
+}
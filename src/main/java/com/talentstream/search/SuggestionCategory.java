@@ -0,0 +1,10 @@
+package com.talentstream.search;
+
+/**
+ * Vocabularies served by the autocomplete endpoint.
+ */
+public enum SuggestionCategory {
+	SKILL,
+	TITLE,
+	LOCATION
+}
@@ -0,0 +1,130 @@
+package com.talentstream.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Prefix tree of weighted suggestions. Every node also remembers the highest
+ * weight found in its subtree, so {@link #suggest(String, int)} can walk the
+ * subtree best-first and stop after the requested number of terms instead of
+ * visiting every completion of a short prefix.
+ *
+ * Not thread safe; callers guard access.
+ */
+public class SuggestionTrie {
+
+	private static final class Node {
+		private final Map<Character, Node> children = new HashMap<>();
+		private String label;
+		private long weight;
+		private long maxWeight;
+	}
+
+	// Either a node still to expand or a finished term, ordered by weight.
+	private static final class Candidate {
+		private final Node node;
+		private final boolean term;
+		private final long priority;
+
+		private Candidate(Node node, boolean term, long priority) {
+			this.node = node;
+			this.term = term;
+			this.priority = priority;
+		}
+	}
+
+	private final Node root = new Node();
+	private int size;
+
+	// Adds delta to the weight of the term (creating it if needed); a term whose
+	// weight drops to zero or below is removed. The first label seen for a key
+	// is the one suggested.
+	public void add(String term, long delta) {
+		String key = SearchText.normalize(term);
+		if (key == null || delta == 0) {
+			return;
+		}
+		List<Node> path = new ArrayList<>(key.length() + 1);
+		Node node = root;
+		path.add(node);
+		for (int i = 0; i < key.length(); i++) {
+			Node child = node.children.get(key.charAt(i));
+			if (child == null) {
+				if (delta < 0) {
+					return;
+				}
+				child = new Node();
+				node.children.put(key.charAt(i), child);
+			}
+			node = child;
+			path.add(node);
+		}
+		boolean existed = node.weight > 0;
+		node.weight = Math.max(0, node.weight + delta);
+		if (node.weight > 0) {
+			if (node.label == null) {
+				node.label = term.trim();
+			}
+		} else {
+			node.label = null;
+		}
+		size += (node.weight > 0 ? 1 : 0) - (existed ? 1 : 0);
+		updatePath(path, key);
+	}
+
+	// Recomputes subtree maxima bottom-up and prunes branches left empty.
+	private void updatePath(List<Node> path, String key) {
+		for (int i = path.size() - 1; i >= 0; i--) {
+			Node node = path.get(i);
+			long max = node.weight;
+			for (Node child : node.children.values()) {
+				max = Math.max(max, child.maxWeight);
+			}
+			node.maxWeight = max;
+			if (i > 0 && max == 0 && node.children.isEmpty()) {
+				path.get(i - 1).children.remove(key.charAt(i - 1));
+			}
+		}
+	}
+
+	// Highest weighted terms starting with the prefix, heaviest first.
+	public List<String> suggest(String prefix, int limit) {
+		List<String> suggestions = new ArrayList<>();
+		String key = SearchText.normalize(prefix);
+		if (key == null || limit <= 0) {
+			return suggestions;
+		}
+		Node node = root;
+		for (int i = 0; i < key.length() && node != null; i++) {
+			node = node.children.get(key.charAt(i));
+		}
+		if (node == null || node.maxWeight == 0) {
+			return suggestions;
+		}
+		PriorityQueue<Candidate> queue = new PriorityQueue<>((a, b) -> Long.compare(b.priority, a.priority));
+		queue.add(new Candidate(node, false, node.maxWeight));
+		while (!queue.isEmpty() && suggestions.size() < limit) {
+			Candidate candidate = queue.poll();
+			if (candidate.term) {
+				suggestions.add(candidate.node.label);
+				continue;
+			}
+			if (candidate.node.weight > 0) {
+				queue.add(new Candidate(candidate.node, true, candidate.node.weight));
+			}
+			for (Node child : candidate.node.children.values()) {
+				if (child.maxWeight > 0) {
+					queue.add(new Candidate(child, false, child.maxWeight));
+				}
+			}
+		}
+		return suggestions;
+	}
+
+	public int size() {
+		return size;
+	}
+}
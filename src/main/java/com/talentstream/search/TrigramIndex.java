@@ -0,0 +1,143 @@
+package com.talentstream.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Character trigram index over a small vocabulary (skill names) for typo
+ * tolerant lookup. Candidates sharing enough trigrams with the query are
+ * found through the posting lists, then confirmed with a bounded
+ * Damerau-Levenshtein distance, so "javscript" finds "javascript" without
+ * comparing the query against every term.
+ *
+ * Not thread safe; callers guard access.
+ */
+public class TrigramIndex {
+
+	// Minimum Dice coefficient between trigram sets for a term to be checked.
+	private static final double MIN_SIMILARITY = 0.3;
+
+	private final List<String> terms = new ArrayList<>();
+	private final Map<String, Integer> termIds = new HashMap<>();
+	private final Map<String, List<Integer>> postings = new HashMap<>();
+	private final List<Integer> trigramCounts = new ArrayList<>();
+
+	public void add(String term) {
+		String key = SearchText.normalize(term);
+		if (key == null || termIds.containsKey(key)) {
+			return;
+		}
+		int termId = terms.size();
+		terms.add(key);
+		termIds.put(key, termId);
+		Set<String> trigrams = trigrams(key);
+		trigramCounts.add(trigrams.size());
+		for (String trigram : trigrams) {
+			postings.computeIfAbsent(trigram, t -> new ArrayList<>()).add(termId);
+		}
+	}
+
+	public boolean contains(String term) {
+		String key = SearchText.normalize(term);
+		return key != null && termIds.containsKey(key);
+	}
+
+	public int size() {
+		return terms.size();
+	}
+
+	// Vocabulary terms within the typo budget of the query, closest first. An
+	// exact match always comes first.
+	public List<String> match(String query, int limit) {
+		List<String> matches = new ArrayList<>();
+		String key = SearchText.normalize(query);
+		if (key == null) {
+			return matches;
+		}
+		Set<String> queryTrigrams = trigrams(key);
+		Map<Integer, Integer> shared = new HashMap<>();
+		for (String trigram : queryTrigrams) {
+			List<Integer> posting = postings.get(trigram);
+			if (posting != null) {
+				for (Integer termId : posting) {
+					shared.merge(termId, 1, Integer::sum);
+				}
+			}
+		}
+		int maxDistance = maxEdits(key.length());
+		List<int[]> candidates = new ArrayList<>();
+		for (Map.Entry<Integer, Integer> entry : shared.entrySet()) {
+			int termId = entry.getKey();
+			double dice = 2.0 * entry.getValue() / (queryTrigrams.size() + trigramCounts.get(termId));
+			if (dice < MIN_SIMILARITY) {
+				continue;
+			}
+			int distance = distance(key, terms.get(termId), maxDistance);
+			if (distance <= maxDistance) {
+				candidates.add(new int[] { termId, distance, entry.getValue() });
+			}
+		}
+		candidates.sort(Comparator.<int[]>comparingInt(c -> c[1]).thenComparing(c -> -c[2]));
+		for (int i = 0; i < candidates.size() && matches.size() < limit; i++) {
+			matches.add(terms.get(candidates.get(i)[0]));
+		}
+		return matches;
+	}
+
+	// Allowed edits grow with the length of the word: short skills such as "c#"
+	// or "go" must match exactly.
+	static int maxEdits(int length) {
+		if (length <= 3) {
+			return 0;
+		}
+		if (length <= 6) {
+			return 1;
+		}
+		return length <= 12 ? 2 : 3;
+	}
+
+	// Padded trigrams, so that the start and end of a term carry weight.
+	static Set<String> trigrams(String key) {
+		String padded = "  " + key + " ";
+		Set<String> trigrams = new LinkedHashSet<>();
+		for (int i = 0; i + 3 <= padded.length(); i++) {
+			trigrams.add(padded.substring(i, i + 3));
+		}
+		return trigrams;
+	}
+
+	// Optimal string alignment distance; returns max + 1 as soon as the
+	// distance is known to exceed max.
+	static int distance(String a, String b, int max) {
+		if (Math.abs(a.length() - b.length()) > max) {
+			return max + 1;
+		}
+		int[][] d = new int[a.length() + 1][b.length() + 1];
+		for (int i = 0; i <= a.length(); i++) {
+			d[i][0] = i;
+		}
+		for (int j = 0; j <= b.length(); j++) {
+			d[0][j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			int rowMin = Integer.MAX_VALUE;
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+				d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+				if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+					d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+				}
+				rowMin = Math.min(rowMin, d[i][j]);
+			}
+			if (rowMin > max) {
+				return max + 1;
+			}
+		}
+		return d[a.length()][b.length()];
+	}
+}
@@ -0,0 +1,143 @@
+package com.talentstream.service;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.repository.JobRecruiterRepository;
+import com.talentstream.repository.RegisterRepository;
+
+/**
+ * Unread alert counters of applicants and recruiters. Increments go to a
+ * Redis hash of pending deltas (HINCRBY), so applications to a popular
+ * recruiter no longer queue on its row; a scheduled reconcile folds the
+ * deltas into the alert_count columns. A count is the column plus the
+ * pending delta. When Redis is unavailable increments fall back to an atomic
+ * SQL update.
+ */
+@Service
+public class AlertCounterService {
+
+	@Autowired
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Autowired
+	private RegisterRepository applicantRepository;
+
+	@Autowired
+	private JobRecruiterRepository jobRecruiterRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(AlertCounterService.class);
+
+	private static final String APPLICANT_DELTAS_KEY = "alertCounts:applicant";
+	private static final String RECRUITER_DELTAS_KEY = "alertCounts:recruiter";
+
+	public void incrementApplicant(long applicantId, long delta) {
+		if (!incrementDelta(APPLICANT_DELTAS_KEY, applicantId, delta)) {
+			applicantRepository.addAlertCount(applicantId, delta);
+		}
+	}
+
+	public void incrementRecruiter(long recruiterId) {
+		if (!incrementDelta(RECRUITER_DELTAS_KEY, recruiterId, 1)) {
+			jobRecruiterRepository.addAlertCount(recruiterId, 1);
+		}
+	}
+
+	// Null when the applicant does not exist.
+	public Integer applicantCount(long applicantId) {
+		Integer stored = applicantRepository.findAlertCountById(applicantId);
+		return stored == null ? null : (int) Math.max(0, stored + pendingDelta(APPLICANT_DELTAS_KEY, applicantId));
+	}
+
+	// Null when the recruiter does not exist.
+	public Integer recruiterCount(long recruiterId) {
+		Integer stored = jobRecruiterRepository.findAlertCountByRecruiterId(recruiterId);
+		return stored == null ? null : (int) Math.max(0, stored + pendingDelta(RECRUITER_DELTAS_KEY, recruiterId));
+	}
+
+	// The pending delta is dropped first, so an increment arriving meanwhile
+	// is kept rather than wiped by the column reset.
+	public void resetApplicant(long applicantId) {
+		dropDelta(APPLICANT_DELTAS_KEY, applicantId);
+		applicantRepository.resetAlertCount(applicantId);
+	}
+
+	public void resetRecruiter(long recruiterId) {
+		dropDelta(RECRUITER_DELTAS_KEY, recruiterId);
+		jobRecruiterRepository.resetAlertCount(recruiterId);
+	}
+
+	@Scheduled(fixedDelayString = "${talentstream.alerts.counter.reconcile-interval-ms:10000}")
+	public void reconcile() {
+		int applicants = reconcile(APPLICANT_DELTAS_KEY, true);
+		int recruiters = reconcile(RECRUITER_DELTAS_KEY, false);
+		if (applicants + recruiters > 0) {
+			logger.debug("Reconciled alert counts of {} applicants and {} recruiters", applicants, recruiters);
+		}
+	}
+
+	// Takes each delta out of Redis before writing it to the column, and puts
+	// it back if the write fails, so a delta is applied at most once.
+	private int reconcile(String key, boolean applicant) {
+		int reconciled = 0;
+		try {
+			for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(key).entrySet()) {
+				long id = Long.parseLong(entry.getKey().toString());
+				long delta = ((Number) entry.getValue()).longValue();
+				if (delta == 0) {
+					redisTemplate.opsForHash().delete(key, entry.getKey());
+					continue;
+				}
+				redisTemplate.opsForHash().increment(key, entry.getKey(), -delta);
+				try {
+					if (applicant) {
+						applicantRepository.addAlertCount(id, delta);
+					} else {
+						jobRecruiterRepository.addAlertCount(id, delta);
+					}
+					reconciled++;
+				} catch (Exception e) {
+					redisTemplate.opsForHash().increment(key, entry.getKey(), delta);
+					logger.warn("Could not reconcile alert count of {} {}", key, id, e);
+				}
+			}
+		} catch (Exception e) {
+			logger.error("Failed to reconcile alert counts in {}", key, e);
+		}
+		return reconciled;
+	}
+
+	private boolean incrementDelta(String key, long id, long delta) {
+		try {
+			redisTemplate.opsForHash().increment(key, String.valueOf(id), delta);
+			return true;
+		} catch (Exception e) {
+			logger.warn("Redis unavailable, writing alert count of {} {} directly", key, id, e);
+			return false;
+		}
+	}
+
+	private long pendingDelta(String key, long id) {
+		try {
+			Object delta = redisTemplate.opsForHash().get(key, String.valueOf(id));
+			return delta == null ? 0 : ((Number) delta).longValue();
+		} catch (Exception e) {
+			logger.warn("Could not read pending alert count of {} {}", key, id, e);
+			return 0;
+		}
+	}
+
+	private void dropDelta(String key, long id) {
+		try {
+			redisTemplate.opsForHash().delete(key, String.valueOf(id));
+		} catch (Exception e) {
+			logger.warn("Could not drop pending alert count of {} {}", key, id, e);
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package com.talentstream.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.repository.ApplicantProfileRepository;
+import com.talentstream.search.ApplicantCriteria;
+import com.talentstream.search.IndexedJob;
+import com.talentstream.search.RelevanceScorer;
+import com.talentstream.search.ScoredApplicant;
+
+/**
+ * Reverse of the job index: which applicants a job could be recommended to.
+ * Applicants get dense document ids with one {@link BitSet} per skill,
+ * preferred location, specialization and experience value, so the applicants
+ * affected by a job write are found with a few ORs instead of scanning every
+ * profile. The same postings rank the best-fitting applicants for a job
+ * (talent search for recruiters).
+ *
+ * Rebuilt periodically from the profiles and updated when a profile changes.
+ */
+@Service
+public class ApplicantIndexService {
+
+	@Autowired
+	private RecommendationSnapshotService recommendationSnapshotService;
+
+	@Autowired
+	private ApplicantProfileRepository applicantProfileRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(ApplicantIndexService.class);
+
+	// Lower score first, then the more recently registered applicant (higher id)
+	// loses ties.
+	private static final Comparator<ScoredApplicant> WORST_FIRST = Comparator
+			.comparingDouble(ScoredApplicant::getScore)
+			.thenComparing(scored -> scored.getApplicant().getApplicantId(), Comparator.reverseOrder());
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, BitSet> bySkill = new HashMap<>();
+	private final Map<String, BitSet> byLocation = new HashMap<>();
+	private final Map<String, BitSet> bySpecialization = new HashMap<>();
+	private final Map<String, BitSet> byQualification = new HashMap<>();
+	private final TreeMap<Integer, BitSet> byExperience = new TreeMap<>();
+	private final List<ApplicantCriteria> documents = new ArrayList<>();
+	private final Map<Long, Integer> docIdsByApplicantId = new HashMap<>();
+	private final BitSet liveDocs = new BitSet();
+	private final RelevanceScorer scorer;
+
+	public ApplicantIndexService(@Value("${talentstream.talent-search.weights.skills:0.5}") double skillWeight,
+			@Value("${talentstream.talent-search.weights.location:0.1}") double locationWeight,
+			@Value("${talentstream.talent-search.weights.experience:0.2}") double experienceWeight,
+			@Value("${talentstream.talent-search.weights.specialization:0.1}") double specializationWeight,
+			@Value("${talentstream.talent-search.weights.qualification:0.1}") double qualificationWeight) {
+		this.scorer = new RelevanceScorer(skillWeight, locationWeight, experienceWeight, specializationWeight,
+				qualificationWeight);
+	}
+
+	@Scheduled(initialDelayString = "${talentstream.recommendations.applicant-index.initial-delay-ms:30000}",
+			fixedDelayString = "${talentstream.recommendations.applicant-index.rebuild-interval-ms:1800000}")
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		try {
+			List<ApplicantCriteria> applicants = new ArrayList<>();
+			recommendationSnapshotService
+					.forEachProfileBatch(profiles -> applicants.addAll(recommendationSnapshotService.criteriaOf(profiles)));
+			lock.writeLock().lock();
+			try {
+				bySkill.clear();
+				byLocation.clear();
+				bySpecialization.clear();
+				byQualification.clear();
+				byExperience.clear();
+				documents.clear();
+				docIdsByApplicantId.clear();
+				liveDocs.clear();
+				for (ApplicantCriteria applicant : applicants) {
+					putLocked(applicant);
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+			logger.info("Applicant index rebuilt with {} profiles in {} ms", applicants.size(),
+					System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			logger.error("Failed to rebuild applicant index", e);
+		}
+	}
+
+	// Re-reads one applicant's profile and replaces its entry (or drops it when
+	// the profile is gone). Runs off the request thread.
+	@Async("recommendationExecutor")
+	public void reindex(long applicantId) {
+		try {
+			List<Object[]> profile = applicantProfileRepository
+					.findRecommendationProfileRowsByApplicantIds(List.of(applicantId));
+			if (profile.isEmpty()) {
+				remove(applicantId);
+			} else {
+				recommendationSnapshotService.criteriaOf(profile).forEach(this::index);
+			}
+		} catch (Exception e) {
+			logger.warn("Could not reindex applicant {}", applicantId, e);
+		}
+	}
+
+	public void index(ApplicantCriteria applicant) {
+		lock.writeLock().lock();
+		try {
+			putLocked(applicant);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long applicantId) {
+		lock.writeLock().lock();
+		try {
+			Integer docId = docIdsByApplicantId.get(applicantId);
+			if (docId != null && documents.get(docId) != null) {
+				removePostingsLocked(docId, documents.get(docId));
+				documents.set(docId, null);
+				liveDocs.clear(docId);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Applicants sharing at least one criterion with any of the given job
+	// snapshots (null entries are skipped).
+	public Set<Long> applicantsMatching(Collection<IndexedJob> jobs) {
+		lock.readLock().lock();
+		try {
+			BitSet hits = new BitSet();
+			for (IndexedJob job : jobs) {
+				if (job == null) {
+					continue;
+				}
+				for (String skill : job.getSkills()) {
+					or(hits, bySkill.get(skill));
+				}
+				or(hits, byLocation.get(job.getLocation()));
+				or(hits, bySpecialization.get(job.getSpecialization()));
+				int maxExperience = Math.max(job.getMinimumExperience(), job.getMaximumExperience());
+				for (BitSet applicants : byExperience.subMap(job.getMinimumExperience(), true, maxExperience, true)
+						.values()) {
+					hits.or(applicants);
+				}
+			}
+			hits.and(liveDocs);
+			Set<Long> applicantIds = new HashSet<>();
+			for (int docId = hits.nextSetBit(0); docId >= 0; docId = hits.nextSetBit(docId + 1)) {
+				applicantIds.add(documents.get(docId).getApplicantId());
+			}
+			return applicantIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// The limit best-fitting applicants for the job, best first. Candidates are
+	// the applicants with at least one of the job's skills, or with any other
+	// criterion in common when the job lists no skills; each is scored on the
+	// share of the job's skills it has plus experience, location,
+	// specialization and qualification fit. Only a heap of limit entries is
+	// kept.
+	public List<ScoredApplicant> topApplicants(IndexedJob job, int limit) {
+		lock.readLock().lock();
+		try {
+			int[] matchedSkills = new int[documents.size()];
+			BitSet candidates = new BitSet();
+			for (String skill : job.getSkills()) {
+				BitSet posting = bySkill.get(skill);
+				if (posting == null) {
+					continue;
+				}
+				candidates.or(posting);
+				for (int docId = posting.nextSetBit(0); docId >= 0; docId = posting.nextSetBit(docId + 1)) {
+					matchedSkills[docId]++;
+				}
+			}
+			BitSet locationHits = copy(byLocation.get(job.getLocation()));
+			BitSet specializationHits = copy(bySpecialization.get(job.getSpecialization()));
+			BitSet qualificationHits = copy(byQualification.get(job.getMinimumQualification()));
+			int maxExperience = Math.max(job.getMinimumExperience(), job.getMaximumExperience());
+			if (job.getSkills().isEmpty()) {
+				candidates.or(locationHits);
+				candidates.or(specializationHits);
+				candidates.or(qualificationHits);
+				for (BitSet applicants : byExperience.subMap(job.getMinimumExperience(), true, maxExperience, true)
+						.values()) {
+					candidates.or(applicants);
+				}
+			}
+			candidates.and(liveDocs);
+
+			int requiredSkills = job.getSkills().size();
+			PriorityQueue<ScoredApplicant> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+			for (int docId = candidates.nextSetBit(0); docId >= 0; docId = candidates.nextSetBit(docId + 1)) {
+				ApplicantCriteria applicant = documents.get(docId);
+				double score = scorer.score(requiredSkills > 0 ? (double) matchedSkills[docId] / requiredSkills : 0,
+						locationHits.get(docId),
+						RelevanceScorer.experienceFit(applicant.getExperience(), job.getMinimumExperience(),
+								job.getMaximumExperience()),
+						specializationHits.get(docId), qualificationHits.get(docId));
+				best.offer(new ScoredApplicant(applicant, score));
+				if (best.size() > limit) {
+					best.poll();
+				}
+			}
+			List<ScoredApplicant> ranked = new ArrayList<>(best);
+			ranked.sort(WORST_FIRST.reversed());
+			return ranked;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static BitSet copy(BitSet posting) {
+		return posting == null ? new BitSet() : (BitSet) posting.clone();
+	}
+
+	private static void or(BitSet hits, BitSet posting) {
+		if (posting != null) {
+			hits.or(posting);
+		}
+	}
+
+	private void putLocked(ApplicantCriteria applicant) {
+		Integer docId = docIdsByApplicantId.get(applicant.getApplicantId());
+		if (docId == null) {
+			docId = documents.size();
+			documents.add(null);
+			docIdsByApplicantId.put(applicant.getApplicantId(), docId);
+		}
+		ApplicantCriteria previous = documents.get(docId);
+		if (previous != null) {
+			removePostingsLocked(docId, previous);
+		}
+		documents.set(docId, applicant);
+		for (String skill : applicant.getSkills()) {
+			set(bySkill, skill, docId);
+		}
+		for (String location : applicant.getLocations()) {
+			set(byLocation, location, docId);
+		}
+		set(bySpecialization, applicant.getSpecialization(), docId);
+		set(byQualification, applicant.getQualification(), docId);
+		set(byExperience, applicant.getExperience(), docId);
+		liveDocs.set(docId);
+	}
+
+	private void removePostingsLocked(int docId, ApplicantCriteria applicant) {
+		for (String skill : applicant.getSkills()) {
+			clear(bySkill, skill, docId);
+		}
+		for (String location : applicant.getLocations()) {
+			clear(byLocation, location, docId);
+		}
+		clear(bySpecialization, applicant.getSpecialization(), docId);
+		clear(byQualification, applicant.getQualification(), docId);
+		clear(byExperience, applicant.getExperience(), docId);
+	}
+
+	private static <K> void set(Map<K, BitSet> postings, K key, int docId) {
+		if (key != null && !"".equals(key)) {
+			postings.computeIfAbsent(key, k -> new BitSet()).set(docId);
+		}
+	}
+
+	private static <K> void clear(Map<K, BitSet> postings, K key, int docId) {
+		BitSet posting = key == null ? null : postings.get(key);
+		if (posting != null) {
+			posting.clear(docId);
+			if (posting.isEmpty()) {
+				postings.remove(key);
+			}
+		}
+	}
+}
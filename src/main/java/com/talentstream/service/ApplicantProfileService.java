@@ -1,6 +1,7 @@
 package com.talentstream.service;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +61,15 @@ public class ApplicantProfileService {
 	@Autowired
 	private ApplicantTestRepository applicantTestRepository;
 
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	@Autowired
+	private SkillDictionaryService skillDictionaryService;
+
+	@Autowired
+	private RecommendationUpdateService recommendationUpdateService;
+
 	private static final Logger logger = LoggerFactory.getLogger(ApplicantProfileService.class);
 
 	@Autowired
@@ -82,7 +92,10 @@ public class ApplicantProfileService {
 			if (existingProfile == null) {
 				ApplicantProfile applicantProfile = convertDTOToEntity(applicantProfileDTO);
 				applicantProfile.setApplicant(applicant);
+				skillDictionaryService.link(applicantProfile.getSkillsRequired());
 				applicantProfileRepository.save(applicantProfile);
+				autocompleteService.onApplicantSkillsChanged(Collections.emptySet(),
+						skillNames(applicantProfile.getSkillsRequired()));
 				return "profile saved sucessfully";
 			} else {
 				throw new CustomException("Profile for this applicant already exists", HttpStatus.BAD_REQUEST);
@@ -226,20 +239,33 @@ public class ApplicantProfileService {
 			existingProfile.setExperienceDetails(updatedProfileDTO.getExperienceDetails());
 			existingProfile.setGraduationDetails(updatedProfileDTO.getGraduationDetails());
 			existingProfile.setIntermediateDetails(updatedProfileDTO.getIntermediateDetails());
+			Set<String> previousSkillNames = skillNames(existingProfile.getSkillsRequired());
 			existingProfile.setSkillsRequired(updatedProfileDTO.getSkillsRequired());
 			existingProfile.setQualification(updatedProfileDTO.getQualification());
 			existingProfile.setSpecialization(updatedProfileDTO.getSpecialization());
 			existingProfile.setxClassDetails(updatedProfileDTO.getxClassDetails());
+			skillDictionaryService.link(existingProfile.getSkillsRequired());
 			applicantProfileRepository.save(existingProfile);
+			autocompleteService.onApplicantSkillsChanged(previousSkillNames,
+					skillNames(existingProfile.getSkillsRequired()));
+			recommendationUpdateService.onProfileChanged(applicantId);
 		}
 		return "profile saved sucessfully";
 	}
 
+	private static Set<String> skillNames(Set<ApplicantSkills> skills) {
+		if (skills == null) {
+			return Collections.emptySet();
+		}
+		return skills.stream().map(ApplicantSkills::getSkillName).collect(Collectors.toSet());
+	}
+
 	// Deletes the applicant's profile by ID; throws CustomException if deletion
 	// fails.
 	public void deleteApplicantProfile(long applicantId) {
 		try {
 			applicantProfileRepository.deleteById((int) applicantId);
+			recommendationUpdateService.onProfileChanged(applicantId);
 		} catch (Exception e) {
 			throw new CustomException("Failed to delete profile for applicant ID: " + applicantId,
 					HttpStatus.INTERNAL_SERVER_ERROR);
@@ -368,9 +394,12 @@ public class ApplicantProfileService {
 				}
 			}
 			existingProfile.setSkillsRequired(updatedSkills);
+			skillDictionaryService.link(updatedSkills);
 
 			// Save the updated profile
 			applicantProfileRepository.save(existingProfile);
+			autocompleteService.onApplicantSkillsChanged(removedSkills, addedSkills);
+			recommendationUpdateService.onProfileChanged(applicantId);
 		}
 
 		return "Profile saved successfully";
@@ -0,0 +1,169 @@
+package com.talentstream.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.talentstream.dto.BulkStatusUpdateResultDTO;
+import com.talentstream.entity.JobRecruiter;
+import com.talentstream.entity.NotificationOutbox;
+import com.talentstream.exception.CustomException;
+import com.talentstream.repository.JobRecruiterRepository;
+
+/**
+ * Moves many applications of one recruiter to a new status at once. The
+ * applications are updated with a single set-based UPDATE, and the status
+ * history, alerts and outbox emails that updateApplicantStatus
+ * writes one at a time are written as JDBC batches, all in one transaction.
+ * Alert counts are bumped through {@link AlertCounterService} once it commits.
+ */
+@Service
+public class ApplicantStatusBulkService {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private NotificationOutboxService notificationOutboxService;
+
+	@Autowired
+	private AlertCounterService alertCounterService;
+
+	@Autowired
+	private JobRecruiterRepository jobRecruiterRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(ApplicantStatusBulkService.class);
+
+	// Only applications of the recruiter's own jobs, and (as for single updates)
+	// only when the recruiter has a company name.
+	private static final String UPDATE_STATUS = "UPDATE applyjob a SET applicant_status = ?, application_date = ?, "
+			+ "change_date = ? FROM job j, job_recruiter r, applicant p "
+			+ "WHERE a.job_id = j.id AND j.job_recruiter_recruiter_id = r.recruiter_id AND a.applicant_id = p.id "
+			+ "AND r.recruiter_id = ? AND r.companyname IS NOT NULL AND a.applyjobid = ANY (?) "
+			+ "RETURNING a.applyjobid, a.applicant_id, p.email, j.job_title, r.companyname";
+
+	private static final String INSERT_HISTORY = "INSERT INTO applicant_status_history (applyjobid, status, change_date) "
+			+ "VALUES (?, ?, ?)";
+
+	private static final String INSERT_ALERT = "INSERT INTO alerts (applyjobid, applicant_id, company_name, status, "
+			+ "job_title, change_date, seen) VALUES (?, ?, ?, ?, ?, ?, false)";
+
+	@Value("${talentstream.apply.bulk-status.max-ids:1000}")
+	private int maxIds;
+
+	private static final class UpdatedApplication {
+		private final long applyJobId;
+		private final long applicantId;
+		private final String email;
+		private final String jobTitle;
+		private final String companyName;
+
+		private UpdatedApplication(long applyJobId, long applicantId, String email, String jobTitle,
+				String companyName) {
+			this.applyJobId = applyJobId;
+			this.applicantId = applicantId;
+			this.email = email;
+			this.jobTitle = jobTitle;
+			this.companyName = companyName;
+		}
+	}
+
+	// recruiterEmail is the authenticated caller, who must be the recruiter.
+	public BulkStatusUpdateResultDTO updateStatus(Long recruiterId, String recruiterEmail, List<Long> applyJobIds,
+			String newStatus) {
+		JobRecruiter caller = recruiterEmail == null ? null : jobRecruiterRepository.findByEmail(recruiterEmail);
+		if (caller == null || !caller.getRecruiterId().equals(recruiterId)) {
+			throw new CustomException("Applications of recruiter " + recruiterId + " cannot be updated by this user",
+					HttpStatus.FORBIDDEN);
+		}
+		if (newStatus == null || newStatus.isBlank()) {
+			throw new CustomException("New status is required", HttpStatus.BAD_REQUEST);
+		}
+		if (applyJobIds == null || applyJobIds.isEmpty()) {
+			throw new CustomException("At least one applyJobId is required", HttpStatus.BAD_REQUEST);
+		}
+		Set<Long> ids = new LinkedHashSet<>(applyJobIds);
+		ids.remove(null);
+		if (ids.size() > maxIds) {
+			throw new CustomException("At most " + maxIds + " applications can be updated at once",
+					HttpStatus.BAD_REQUEST);
+		}
+		long start = System.currentTimeMillis();
+		String status = newStatus.trim();
+		List<UpdatedApplication> updated = transactionTemplate.execute(tx -> update(recruiterId, ids, status));
+		Set<Long> skipped = new LinkedHashSet<>(ids);
+		Map<Long, Integer> alertsPerApplicant = new HashMap<>();
+		for (UpdatedApplication application : updated) {
+			skipped.remove(application.applyJobId);
+			alertsPerApplicant.merge(application.applicantId, 1, Integer::sum);
+		}
+		for (Map.Entry<Long, Integer> entry : alertsPerApplicant.entrySet()) {
+			alertCounterService.incrementApplicant(entry.getKey(), entry.getValue());
+		}
+		logger.info("Moved {} applications of recruiter {} to {} in {} ms ({} skipped)", updated.size(), recruiterId,
+				status, System.currentTimeMillis() - start, skipped.size());
+		return new BulkStatusUpdateResultDTO(status, updated.size(), new ArrayList<>(skipped));
+	}
+
+	private List<UpdatedApplication> update(Long recruiterId, Set<Long> ids, String status) {
+		LocalDateTime changeDateTime = LocalDateTime.now().plusHours(5).plusMinutes(30);
+		Timestamp changeTimestamp = Timestamp.valueOf(changeDateTime);
+		List<UpdatedApplication> updated = jdbcTemplate.query(con -> {
+			PreparedStatement ps = con.prepareStatement(UPDATE_STATUS);
+			ps.setString(1, status);
+			ps.setTimestamp(2, changeTimestamp);
+			ps.setTimestamp(3, changeTimestamp);
+			ps.setLong(4, recruiterId);
+			ps.setArray(5, con.createArrayOf("bigint", ids.toArray()));
+			return ps;
+		}, (rs, rowNum) -> new UpdatedApplication(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4),
+				rs.getString(5)));
+		if (updated.isEmpty()) {
+			return updated;
+		}
+
+		Date changeDate = Date.valueOf(changeDateTime.toLocalDate());
+		List<Object[]> history = new ArrayList<>(updated.size());
+		List<Object[]> alerts = new ArrayList<>(updated.size());
+		List<NotificationOutbox> emails = new ArrayList<>(updated.size());
+		for (UpdatedApplication application : updated) {
+			history.add(new Object[] { application.applyJobId, status, changeDate });
+			alerts.add(new Object[] { application.applyJobId, application.applicantId, application.companyName, status,
+					application.jobTitle, changeTimestamp });
+
+			NotificationOutbox email = new NotificationOutbox();
+			email.setApplyJobId(application.applyJobId);
+			email.setApplicantId(application.applicantId);
+			email.setRecipientEmail(application.email);
+			email.setCompanyName(application.companyName);
+			email.setJobTitle(application.jobTitle);
+			email.setApplicantStatus(status);
+			// The alert is inserted below, so the dispatcher only sends the email.
+			email.setAlertCreated(true);
+			emails.add(email);
+		}
+		jdbcTemplate.batchUpdate(INSERT_HISTORY, history);
+		jdbcTemplate.batchUpdate(INSERT_ALERT, alerts);
+		notificationOutboxService.enqueueAll(emails);
+		return updated;
+	}
+}
@@ -0,0 +1,123 @@
+package com.talentstream.service;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.InternetAddress;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.entity.Alerts;
+import com.talentstream.entity.ApplicantStatusHistory;
+import com.talentstream.entity.ApplyJob;
+import com.talentstream.repository.AlertsRepository;
+import com.talentstream.repository.ApplicantRepository;
+import com.talentstream.repository.ApplicantStatusHistoryRepository;
+import com.talentstream.repository.ApplyJobRepository;
+
+/**
+ * Side effects of applications and status changes. After an apply, the
+ * recruiter's alert count goes up on the bounded applyJobExecutor, so the
+ * applicant does not wait for it. The applicant alert and email are delivered
+ * through {@link NotificationOutboxService}, which calls back into
+ * {@link #createAlert} and {@link #sendEmailToApplicant}.
+ */
+@Service
+public class ApplyJobEventService {
+
+	@Autowired
+	private ApplyJobRepository applyJobRepository;
+	@Autowired
+	private ApplicantStatusHistoryRepository statusHistoryRepository;
+	@Autowired
+	private AlertsRepository alertsRepository;
+	@Autowired
+	private AlertCounterService alertCounterService;
+	@Autowired
+	private ApplicantRepository applicantRepository;
+	@Autowired
+	private JavaMailSender javaMailSender;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ApplyJobEventService.class);
+
+	// Runs after the application is committed. The apply statement itself
+	// writes the saved job, history and outbox rows; only the recruiter's
+	// alert count is left, kept off the request thread because its fallback
+	// updates the (possibly hot) recruiter row.
+	@Async("applyJobExecutor")
+	public void onJobApplied(long recruiterId) {
+		try {
+			alertCounterService.incrementRecruiter(recruiterId);
+		} catch (Exception e) {
+			LOGGER.error("Failed to count the application alert of recruiter {}", recruiterId, e);
+		}
+	}
+
+	// Creates and saves an alert for the applicant about their application status.
+	public void createAlert(long applyJobId, long applicantId, String applicantStatus, String cN, String jobTitle) {
+
+		Alerts alerts = new Alerts();
+		alerts.setApplyJob(applyJobRepository.getReferenceById(applyJobId));
+		alerts.setApplicant(applicantRepository.getReferenceById(applicantId));
+		alerts.setCompanyName(cN);
+		alerts.setStatus(applicantStatus);
+		alerts.setJobTitle(jobTitle);
+		LocalDateTime currentDate = LocalDateTime.now();
+
+		LocalDateTime currentChangeDateTime = currentDate;
+
+		LocalDateTime updatedChangeDateTime = currentChangeDateTime.plusHours(5).plusMinutes(30);
+		alerts.setChangeDate(updatedChangeDateTime);
+		alertsRepository.save(alerts);
+	}
+
+	// Sends an email notification to the applicant regarding their job application
+	// status. Failures are thrown so the outbox can retry.
+	public void sendEmailToApplicant(String toEmail, String cN, String applicantStatus, String jobTitle)
+			throws MessagingException, UnsupportedEncodingException {
+
+		javax.mail.internet.MimeMessage message = javaMailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(message, true);
+
+		helper.setFrom(new InternetAddress("no-reply@bitlabs.in", "bitLabs Jobs"));
+		helper.setTo(toEmail);
+		helper.setSubject("Your Application for " + jobTitle + " at " + cN + " has been Submitted");
+
+		String content = "Dear Applicant,\n\n" + "Thank you for applying for the position of " + jobTitle + " at "
+				+ cN
+				+ " through bitLabs Jobs. We have received your application and it has been successfully submitted to the employer. "
+				+ "\n\n" + "What’s Next?\n\n" + "1. Your application will be screened.\n"
+				+ "2. If you are shortlisted, the employer will contact you directly for the next steps.\n"
+				+ "3. Meanwhile, you can track your application status by logging into your bitLabs Jobs account & by clicking on applied jobs.\n\n"
+				+ "Happy job searching! \n\n" + "Regards\n" + "The bitLabs Jobs Team.\n\n"
+				+ "This is an auto-generated email. Please do not reply.";
+		helper.setText(content);
+
+		javaMailSender.send(message);
+	}
+
+	// Saves the status history of an application with the current date and status.
+	public void saveStatusHistory(ApplyJob applyJob, String applicationStatus) {
+
+		LocalDateTime currentDateTime = LocalDateTime.now();
+
+		LocalDateTime updatedDateTime = currentDateTime.plus(Duration.ofHours(5).plusMinutes(30));
+
+		LocalDate updatedDate = updatedDateTime.toLocalDate();
+
+		ApplicantStatusHistory statusHistory = new ApplicantStatusHistory();
+		statusHistory.setApplyJob(applyJob);
+		statusHistory.setStatus(applicationStatus);
+		statusHistory.setChangeDate(updatedDate);
+		statusHistoryRepository.save(statusHistory);
+	}
+}
@@ -1,7 +1,7 @@
 package com.talentstream.service;
 
-import java.time.Duration;
-import java.time.LocalDate;
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,17 +14,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.mail.internet.InternetAddress;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.talentstream.dto.JobDTO;
 import com.talentstream.dto.RecuriterSkillsDTO;
@@ -40,8 +37,6 @@ import com.talentstream.entity.ApplyJob;
 import com.talentstream.entity.Job;
 import com.talentstream.entity.JobRecruiter;
 import com.talentstream.entity.MatchTypes;
-import com.talentstream.entity.RecuriterSkills;
-import com.talentstream.entity.SavedJob;
 import com.talentstream.exception.CustomException;
 import com.talentstream.repository.AlertsRepository;
 import com.talentstream.repository.ApplicantProfileRepository;
@@ -49,10 +44,8 @@ import com.talentstream.repository.ApplicantSkillBadgeRepository;
 import com.talentstream.repository.ApplicantStatusHistoryRepository;
 import com.talentstream.repository.ApplicantTestRepository;
 import com.talentstream.repository.ApplyJobRepository;
-import com.talentstream.repository.JobRecruiterRepository;
 import com.talentstream.repository.JobRepository;
 import com.talentstream.repository.RegisterRepository;
-import com.talentstream.repository.SavedJobRepository;
 import com.talentstream.repository.ScheduleInterviewRepository;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -72,26 +65,53 @@ public class ApplyJobService {
 	@Autowired
 	private ApplicantStatusHistoryRepository statusHistoryRepository;
 	@Autowired
-	private JavaMailSender javaMailSender;
-	@Autowired
 	private AlertsRepository alertsRepository;
 	@Autowired
-	private JobRecruiterRepository jobRecruiterRepository;
-	@Autowired
 	private ApplicantProfileRepository applicantProfileRepo;
 	@Autowired
-	private SavedJobRepository savedJobRepository;
-	@Autowired
 	private ApplicantTestRepository applicantTestRepository;
 	@Autowired
 	private ViewJobService viewJobService;
 	@Autowired
 	private ApplicantSkillBadgeRepository applicantSkillBadgeRepository;
+	@Autowired
+	private ApplyJobEventService applyJobEventService;
+	@Autowired
+	private NotificationOutboxService notificationOutboxService;
+	@Autowired
+	private AlertCounterService alertCounterService;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
 	
 	
 	private static final String COMP_MESG="Company information not found for the given ApplyJob";
 	
 	private static final String MESG="contains";
+
+	// Applies, clears the saved job, records the status history and queues the
+	// notification in one round trip. ON CONFLICT relies on
+	// uk_applyjob_applicant_job; a repeated apply inserts nothing, so the later
+	// statements see no row. Returns one row (null applyjobid when already
+	// applied) or none when the applicant or job does not exist.
+	private static final String APPLY_JOB = "WITH target AS ("
+			+ "SELECT p.id AS applicant_id, p.email, j.id AS job_id, j.job_title, r.recruiter_id, r.companyname "
+			+ "FROM applicant p CROSS JOIN job j "
+			+ "LEFT JOIN job_recruiter r ON r.recruiter_id = j.job_recruiter_recruiter_id "
+			+ "WHERE p.id = ? AND j.id = ?), "
+			+ "applied AS (INSERT INTO applyjob (applicant_id, job_id, applicant_status, application_date, change_date) "
+			+ "SELECT applicant_id, job_id, 'New', ?, ? FROM target ON CONFLICT DO NOTHING "
+			+ "RETURNING applyjobid, applicant_status), "
+			+ "unsaved AS (UPDATE applicant_savedjob s SET save_job_status = 'removed from saved' "
+			+ "FROM target t, applied a WHERE s.applicantregistration_id = t.applicant_id AND s.job_id = t.job_id), "
+			+ "history AS (INSERT INTO applicant_status_history (applyjobid, status, change_date) "
+			+ "SELECT applyjobid, applicant_status, ? FROM applied), "
+			+ "outbox AS (INSERT INTO notification_outbox (apply_job_id, applicant_id, recipient_email, company_name, "
+			+ "job_title, applicant_status, state, alert_created, attempts, next_attempt_at, created_at) "
+			+ "SELECT a.applyjobid, t.applicant_id, t.email, t.companyname, t.job_title, a.applicant_status, "
+			+ "'PENDING', false, 0, ?, ? FROM applied a, target t WHERE t.companyname IS NOT NULL) "
+			+ "SELECT a.applyjobid, t.recruiter_id, t.companyname FROM target t LEFT JOIN applied a ON true";
 	
 	private static final Logger LOGGER=LoggerFactory.getLogger(ApplyJobService.class);
 
@@ -111,40 +131,34 @@ public class ApplyJobService {
 	// sending alerts if successful.
 //	
 
-	// Allows an applicant to apply for a job, handling existing applications and
-	// sending alerts if successful.
+	// Allows an applicant to apply for a job in one statement: the application,
+	// the saved job update, the status history and the notification are written
+	// by APPLY_JOB; an existing application is detected through the unique
+	// constraint instead of being looked up first.
 	public String applicantApplyJob(long applicantId, long jobId) {
 		try {
-			Applicant applicant = applicantRepository.findById(applicantId);
-			Job job = jobRepository.findById(jobId).orElse(null);
-			if (applicant==null || job == null) {
+			LocalDateTime now = LocalDateTime.now();
+			Timestamp appliedAt = Timestamp.valueOf(now);
+			Date historyDate = Date.valueOf(now.plusHours(5).plusMinutes(30).toLocalDate());
+			List<Object[]> rows = jdbcTemplate.query(APPLY_JOB,
+					(rs, rowNum) -> new Object[] { rs.getObject(1, Long.class), rs.getObject(2, Long.class),
+							rs.getString(3) },
+					applicantId, jobId, appliedAt, appliedAt, historyDate, appliedAt, appliedAt);
+			if (rows.isEmpty()) {
 				throw new CustomException("Applicant ID or Job ID not found", HttpStatus.NOT_FOUND);
 			}
-			try {
-				// Apply for the job (DB hit reduced by removing existence check)
-				ApplyJob applyJob = new ApplyJob();
-				applyJob.setApplicant(applicant);
-				applyJob.setJob(job);
-				applyJobRepository.save(applyJob);
-				// Remove from saved jobs if it exists
-				SavedJob savedJob = savedJobRepository.findByApplicantAndJob(applicant, job);
-				if (savedJob != null) {
-					savedJob.setSaveJobStatus("removed from saved");
-					savedJobRepository.save(savedJob);
-				}
-				saveStatusHistory(applyJob, applyJob.getApplicantStatus());
-				// Alert recruiter if applicable
-				JobRecruiter recruiter = job.getJobRecruiter();
-				if (recruiter != null && recruiter.getCompanyname() != null) {
-					recruiter.setAlertCount(recruiter.getAlertCount() + 1);
-					jobRecruiterRepository.save(recruiter);
-					sendAlerts(applyJob, applyJob.getApplicantStatus(), recruiter.getCompanyname(), job.getJobTitle());
-					return "Job applied successfully";
-				}
-				return COMP_MESG;
-			} catch (DataIntegrityViolationException e) {
+			Long applyJobId = (Long) rows.get(0)[0];
+			Long recruiterId = (Long) rows.get(0)[1];
+			String companyName = (String) rows.get(0)[2];
+			if (applyJobId == null) {
 				return "Job has already been applied by the applicant";
 			}
+			if (recruiterId == null || companyName == null) {
+				return COMP_MESG;
+			}
+			// The recruiter alert count runs in the background.
+			applyJobEventService.onJobApplied(recruiterId);
+			return "Job applied successfully";
 		} catch (CustomException ex) {
 			throw ex;
 		} catch (Exception e) {
@@ -172,86 +186,6 @@ public class ApplyJobService {
 		}
 	}
 
-	// Increments the alert count for the specified applicant and saves the updated
-	// count to the database.
-	private void incrementAlertCount(Applicant applicant) {
-
-		if (applicant != null) {
-			int currentAlertCount = applicant.getAlertCount();
-			applicant.setAlertCount(currentAlertCount + 1);
-			applicantRepository.save(applicant);
-		}
-	}
-
-	// Creates and saves an alert for the applicant and sends an email notification
-	// regarding their application status.
-	private void sendAlerts(ApplyJob applyJob, String applicantStatus, String cN, String jobTitle) {
-
-		Alerts alerts = new Alerts();
-		alerts.setApplyJob(applyJob);
-		alerts.setApplicant(applyJob.getApplicant());
-		alerts.setCompanyName(cN);
-		alerts.setStatus(applicantStatus);
-		alerts.setJobTitle(jobTitle);
-		LocalDateTime currentDate = LocalDateTime.now();
-
-		LocalDateTime currentChangeDateTime = currentDate;
-
-		LocalDateTime updatedChangeDateTime = currentChangeDateTime.plusHours(5).plusMinutes(30);
-		alerts.setChangeDate(updatedChangeDateTime);
-		alertsRepository.save(alerts);
-
-		sendEmailToApplicant(applyJob.getApplicant().getEmail(), cN, applicantStatus, jobTitle);
-	}
-
-	// Sends an email notification to the applicant regarding their job application
-	// status.
-	private void sendEmailToApplicant(String toEmail, String cN, String applicantStatus, String jobTitle) {
-
-		try {
-			javax.mail.internet.MimeMessage message = javaMailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-			helper.setFrom(new InternetAddress("no-reply@bitlabs.in", "bitLabs Jobs"));
-			helper.setTo(toEmail);
-			helper.setSubject("Your Application for " + jobTitle + " at " + cN + " has been Submitted");
-
-			String content = "Dear Applicant,\n\n" + "Thank you for applying for the position of " + jobTitle + " at "
-					+ cN
-					+ " through bitLabs Jobs. We have received your application and it has been successfully submitted to the employer. "
-					+ "\n\n" + "What’s Next?\n\n" + "1. Your application will be screened.\n"
-					+ "2. If you are shortlisted, the employer will contact you directly for the next steps.\n"
-					+ "3. Meanwhile, you can track your application status by logging into your bitLabs Jobs account & by clicking on applied jobs.\n\n"
-					+ "Happy job searching! \n\n" + "Regards\n" + "The bitLabs Jobs Team.\n\n"
-					+ "This is an auto-generated email. Please do not reply.";
-			helper.setText(content);
-
-			javaMailSender.send(message);
-		} catch (Exception e) {
-
-			e.printStackTrace();
-		}
-	}
-
-	// Saves the status history of an application with the current date and status.
-	private void saveStatusHistory(ApplyJob applyJob, String applicationStatus) {
-
-		LocalDateTime currentDateTime = LocalDateTime.now();
-
-		LOGGER.info("before addition {} " , currentDateTime);
-		
-		LocalDateTime updatedDateTime = currentDateTime.plus(Duration.ofHours(5).plusMinutes(30));
-		LOGGER.info("after addition  {}" ,updatedDateTime);
-
-		LocalDate updatedDate = updatedDateTime.toLocalDate();
-
-		ApplicantStatusHistory statusHistory = new ApplicantStatusHistory();
-		statusHistory.setApplyJob(applyJob);
-		statusHistory.setStatus(applicationStatus);
-		statusHistory.setChangeDate(updatedDate);
-		statusHistoryRepository.save(statusHistory);
-	}
-
 	// Retrieves a list of applicants who have applied for a specific job by its ID.
 	public List<ApplyJob> getAppliedApplicantsForJob(Long jobId) {
 		try {
@@ -304,7 +238,10 @@ public class ApplyJobService {
 	public List<AppliedApplicantInfoDTO> getAppliedApplicants2(long jobRecruiterId, MatchTypes matchTypes, String name,
 			String email, String mobileNumber, String jobTitle, String applicantStatus, Integer minimumExperience,
 			String skillName, String minimumQualification, String location) {
-		List<AppliedApplicantInfo> all1 = applyJobRepository.findAppliedApplicantsInfo(jobRecruiterId);
+		// Two queries for the whole listing: the rows with their profile columns,
+		// and the skills of the jobs they belong to.
+		List<AppliedApplicantInfo> all1 = applyJobRepository.findAppliedApplicantsWithProfile(jobRecruiterId);
+		Map<Long, List<String>> skillsByJob = skillNamesOf(all1);
 
 		List<AppliedApplicantInfoDTO> all = new ArrayList<>();
 
@@ -313,16 +250,15 @@ public class ApplyJobService {
 		LOGGER.info(matchTypes.getMobilenumber());
 		
 		for (AppliedApplicantInfo appliedApplicantInfo : all1) {
+			if (appliedApplicantInfo.getProfileName() == null) {
+				continue;
+			}
 			try {
-				long id1 = appliedApplicantInfo.getId();
-				ApplicantProfile applicantProfile = applicantProfileRepo.findByApplicantId(id1);
-				AppliedApplicantInfoDTO dto1 = mapToDTO(appliedApplicantInfo);
-				dto1.setExperience(applicantProfile.getExperience());
-				String name1 = applicantProfile.getBasicDetails().getFirstName() + " "
-						+ applicantProfile.getBasicDetails().getLastName();
-				dto1.setName(name1);
-				dto1.setMobilenumber(applicantProfile.getBasicDetails().getAlternatePhoneNumber());
-				dto1.setMinimumQualification(applicantProfile.getQualification());
+				AppliedApplicantInfoDTO dto1 = mapToDTO(appliedApplicantInfo, skillsByJob);
+				dto1.setExperience(appliedApplicantInfo.getExperience());
+				dto1.setName(appliedApplicantInfo.getProfileName());
+				dto1.setMobilenumber(appliedApplicantInfo.getProfileMobilenumber());
+				dto1.setMinimumQualification(appliedApplicantInfo.getQualification());
 				all.add(dto1);
 			} catch (Exception e) {
 				e.printStackTrace();
@@ -426,6 +362,7 @@ public class ApplyJobService {
 	public Map<String, List<AppliedApplicantInfoDTO>> getAppliedApplicants(long jobRecruiterId) {
 
 		List<AppliedApplicantInfo> appliedApplicants = applyJobRepository.findAppliedApplicantsInfo(jobRecruiterId);
+		Map<Long, List<String>> skillsByJob = skillNamesOf(appliedApplicants);
 
 		Map<String, AppliedApplicantInfoDTO> applicantMap = new HashMap<>();
 
@@ -436,7 +373,7 @@ public class ApplyJobService {
 			AppliedApplicantInfoDTO dto;
 
 			if (!applicantMap.containsKey(applicantKey)) {
-				dto = mapToDTO(appliedApplicantInfo);
+				dto = mapToDTO(appliedApplicantInfo, skillsByJob);
 				try {
 
 					ApplicantProfile applicantProfile = applicantProfileRepo
@@ -520,6 +457,7 @@ public class ApplyJobService {
 	public Map<String, List<AppliedApplicantInfoDTO>> getAppliedApplicants1(long jobRecruiterId, long id) {
 		List<AppliedApplicantInfo> appliedApplicants = applyJobRepository
 				.findAppliedApplicantsInfoWithJobId(jobRecruiterId, id);
+		Map<Long, List<String>> skillsByJob = skillNamesOf(appliedApplicants);
 		Map<String, AppliedApplicantInfoDTO> applicantMap = new HashMap<>();
 
 		for (AppliedApplicantInfo appliedApplicantInfo : appliedApplicants) {
@@ -529,7 +467,7 @@ public class ApplyJobService {
 				try {
 					long id1 = appliedApplicantInfo.getId();
 					ApplicantProfile applicantProfile = applicantProfileRepo.findByApplicantId(id1);
-					AppliedApplicantInfoDTO dto = mapToDTO(appliedApplicantInfo);
+					AppliedApplicantInfoDTO dto = mapToDTO(appliedApplicantInfo, skillsByJob);
 					dto.setExperience(applicantProfile.getExperience());
 					String name = applicantProfile.getBasicDetails().getFirstName() + " "
 							+ applicantProfile.getBasicDetails().getLastName();
@@ -616,9 +554,27 @@ public class ApplyJobService {
 		return result;
 	}
 
+	// Skill names of the jobs in the listing, loaded in one query instead of one
+	// job at a time.
+	private Map<Long, List<String>> skillNamesOf(List<AppliedApplicantInfo> appliedApplicants) {
+		Map<Long, List<String>> skillsByJob = new HashMap<>();
+		Set<Long> jobIds = appliedApplicants.stream().map(AppliedApplicantInfo::getJobId)
+				.collect(Collectors.toSet());
+		if (jobIds.isEmpty()) {
+			return skillsByJob;
+		}
+		for (Object[] row : jobRepository.findSkillNameRowsByJobIds(jobIds)) {
+			if (row[1] != null) {
+				skillsByJob.computeIfAbsent((Long) row[0], jobId -> new ArrayList<>()).add((String) row[1]);
+			}
+		}
+		return skillsByJob;
+	}
+
 	// Maps an AppliedApplicantInfo entity to an AppliedApplicantInfoDTO,
 	// transferring relevant applicant details.
-	private AppliedApplicantInfoDTO mapToDTO(AppliedApplicantInfo appliedApplicantInfo) {
+	private AppliedApplicantInfoDTO mapToDTO(AppliedApplicantInfo appliedApplicantInfo,
+			Map<Long, List<String>> skillsByJob) {
 		AppliedApplicantInfoDTO dto = new AppliedApplicantInfoDTO();
 		dto.setApplyjobid(appliedApplicantInfo.getApplyjobid());
 		dto.setName(appliedApplicantInfo.getName());
@@ -630,22 +586,13 @@ public class ApplyJobService {
 		dto.setApplicantStatus(appliedApplicantInfo.getApplicantStatus());
 		dto.setMinimumExperience(appliedApplicantInfo.getMinimumExperience());
 		dto.setMinimumQualification(appliedApplicantInfo.getMinimumQualification());
-		Job job = jobRepository.findById(appliedApplicantInfo.getJobId()).orElse(null);
-		if (job != null) {
-			Set<RecuriterSkills> jobSkills = job.getSkillsRequired();
-			if (jobSkills != null) {
-				List<String> skills = jobSkills.stream().filter(skill -> skill.getSkillName() != null) // Avoid null
-																										// keys
-						.map(RecuriterSkills::getSkillName).collect(Collectors.toList());
-				dto.setSkillName(skills);
-			}
-		}
+		dto.setSkillName(skillsByJob.getOrDefault(appliedApplicantInfo.getJobId(), new ArrayList<>()));
 		dto.setLocation(appliedApplicantInfo.getLocation());
 		return dto;
 	}
 
 	// Updates the status of an applicant, logs the change, increments alert count,
-	// saves status history, and sends alerts; throws EntityNotFoundException if
+	// saves status history, and queues the notification; throws EntityNotFoundException if
 	// ApplyJob not found.
 	public String updateApplicantStatus(Long applyJobId, String newStatus) {
 		ApplyJob applyJob = applyJobRepository.findById(applyJobId)
@@ -667,13 +614,15 @@ public class ApplyJobService {
 					applyJob.setApplicationDate(updatedChangeDateTime);
 					applyJob.setChangeDate(updatedChangeDateTime);
 
-					applyJobRepository.save(applyJob);
-
-					incrementAlertCount(applyJob.getApplicant());
+					// The status change, its history and its notification commit together.
+					transactionTemplate.executeWithoutResult(status -> {
+						applyJobRepository.save(applyJob);
 
-					saveStatusHistory(applyJob, applyJob.getApplicantStatus());
+						applyJobEventService.saveStatusHistory(applyJob, applyJob.getApplicantStatus());
 
-					sendAlerts(applyJob, applyJob.getApplicantStatus(), companyName, jobTitle);
+						notificationOutboxService.enqueue(applyJob, applyJob.getApplicantStatus(), companyName, jobTitle);
+					});
+					alertCounterService.incrementApplicant(applyJob.getApplicant().getId(), 1);
 					return "Applicant status updated to: " + newStatus;
 				}
 			}
@@ -756,10 +705,7 @@ public class ApplyJobService {
 
 		try {
 
-			Applicant applicant = applicantRepository.findById(applicantId);
-
-			applicant.setAlertCount(0);
-			applicantRepository.save(applicant);
+			alertCounterService.resetApplicant(applicantId);
 
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -819,13 +765,15 @@ public class ApplyJobService {
 					applyJob.setApplicationDate(updatedChangeDateTime);
 					applyJob.setChangeDate(updatedChangeDateTime);
 
-					applyJobRepository.save(applyJob);
-
-					incrementAlertCount(applyJob.getApplicant());
+					// The status change, its history and its notification commit together.
+					transactionTemplate.executeWithoutResult(status -> {
+						applyJobRepository.save(applyJob);
 
-					saveStatusHistory(applyJob, applyJob.getApplicantStatus());
+						applyJobEventService.saveStatusHistory(applyJob, applyJob.getApplicantStatus());
 
-					sendAlerts(applyJob, applyJob.getApplicantStatus(), companyName, jobTitle);
+						notificationOutboxService.enqueue(applyJob, applyJob.getApplicantStatus(), companyName, jobTitle);
+					});
+					alertCounterService.incrementApplicant(applyJob.getApplicant().getId(), 1);
 					return "Applicant status for applicant ID " + applicantId + " updated to: " + newStatus;
 				}
 			}
@@ -0,0 +1,136 @@
+package com.talentstream.service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.entity.Job;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.repository.ApplicantProfileRepository;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.search.IndexedJob;
+import com.talentstream.search.SuggestionCategory;
+import com.talentstream.search.SuggestionTrie;
+
+/**
+ * Typeahead suggestions for skills, job titles and locations, answered from
+ * in-memory tries. Weights are the number of active jobs (and, for skills,
+ * applicant profiles) using a value. The tries are rebuilt periodically and
+ * adjusted in between whenever a job or a profile's skills change.
+ */
+@Service
+public class AutocompleteService {
+
+	@Autowired
+	private JobRepository jobRepository;
+
+	@Autowired
+	private ApplicantProfileRepository applicantProfileRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(AutocompleteService.class);
+
+	private static final String INACTIVE = "inactive";
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private Map<SuggestionCategory, SuggestionTrie> tries = emptyTries();
+
+	@Scheduled(initialDelay = 0, fixedDelayString = "${talentstream.search.autocomplete.rebuild-interval-ms:900000}")
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		try {
+			Map<SuggestionCategory, SuggestionTrie> rebuilt = emptyTries();
+			addCounts(rebuilt.get(SuggestionCategory.SKILL), jobRepository.countActiveJobsBySkillName());
+			addCounts(rebuilt.get(SuggestionCategory.SKILL), applicantProfileRepository.countProfilesBySkillName());
+			addCounts(rebuilt.get(SuggestionCategory.TITLE), jobRepository.countActiveJobsByTitle());
+			addCounts(rebuilt.get(SuggestionCategory.LOCATION), jobRepository.countActiveJobsByLocation());
+			lock.writeLock().lock();
+			try {
+				tries = rebuilt;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			logger.info("Autocomplete rebuilt with {} skills, {} titles and {} locations in {} ms",
+					rebuilt.get(SuggestionCategory.SKILL).size(), rebuilt.get(SuggestionCategory.TITLE).size(),
+					rebuilt.get(SuggestionCategory.LOCATION).size(), System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			logger.error("Failed to rebuild autocomplete tries", e);
+		}
+	}
+
+	private static Map<SuggestionCategory, SuggestionTrie> emptyTries() {
+		Map<SuggestionCategory, SuggestionTrie> empty = new EnumMap<>(SuggestionCategory.class);
+		for (SuggestionCategory category : SuggestionCategory.values()) {
+			empty.put(category, new SuggestionTrie());
+		}
+		return empty;
+	}
+
+	private static void addCounts(SuggestionTrie trie, List<Object[]> rows) {
+		for (Object[] row : rows) {
+			trie.add((String) row[0], ((Number) row[1]).longValue());
+		}
+	}
+
+	public List<String> suggest(SuggestionCategory category, String prefix, int limit) {
+		lock.readLock().lock();
+		try {
+			return tries.get(category).suggest(prefix, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Moves the job's weight from its previous values (as last indexed) to its
+	// current ones. Inactive jobs only lose weight.
+	public void onJobChanged(IndexedJob previous, Job current) {
+		try {
+			lock.writeLock().lock();
+			try {
+				if (previous != null) {
+					for (String skill : previous.getSkills()) {
+						tries.get(SuggestionCategory.SKILL).add(skill, -1);
+					}
+					tries.get(SuggestionCategory.TITLE).add(previous.getJobTitle(), -1);
+					tries.get(SuggestionCategory.LOCATION).add(previous.getLocation(), -1);
+				}
+				if (current != null && !INACTIVE.equalsIgnoreCase(current.getStatus())) {
+					if (current.getSkillsRequired() != null) {
+						for (RecuriterSkills skill : current.getSkillsRequired()) {
+							tries.get(SuggestionCategory.SKILL).add(skill.getSkillName(), 1);
+						}
+					}
+					tries.get(SuggestionCategory.TITLE).add(current.getJobTitle(), 1);
+					tries.get(SuggestionCategory.LOCATION).add(current.getLocation(), 1);
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		} catch (Exception e) {
+			logger.warn("Could not update autocomplete for job {}", current != null ? current.getId() : null, e);
+		}
+	}
+
+	public void onApplicantSkillsChanged(Collection<String> removedSkills, Collection<String> addedSkills) {
+		lock.writeLock().lock();
+		try {
+			SuggestionTrie skills = tries.get(SuggestionCategory.SKILL);
+			for (String skill : removedSkills) {
+				skills.add(skill, -1);
+			}
+			for (String skill : addedSkills) {
+				skills.add(skill, 1);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.talentstream.service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -13,13 +14,17 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.talentstream.dto.CursorPageDTO;
+import com.talentstream.dto.JobCursor;
 import com.talentstream.dto.JobDTO;
 import com.talentstream.dto.RecuriterSkillsDTO;
 import com.talentstream.entity.ApplicantProfile;
+import com.talentstream.entity.ApplicantSkills;
 import com.talentstream.entity.Job;
 import com.talentstream.entity.RecuriterSkills;
 import com.talentstream.exception.CustomException;
@@ -46,6 +51,27 @@ public class FinRecommendedJobService {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private FuzzySkillMatchService fuzzySkillMatchService;
+
+    @Autowired
+    private SkillDictionaryService skillDictionaryService;
+
+    @Autowired
+    private LocationProximityService locationProximityService;
+
+    @Autowired
+    private RecommendationSnapshotService recommendationSnapshotService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private RecommendationUpdateService recommendationUpdateService;
+
+    @Autowired
+    private RecommendationCacheService recommendationCacheService;
+
     private static final Logger logger = LoggerFactory.getLogger(FinRecommendedJobService.class);
     private static final String CACHE_KEY_PREFIX = "recommended_jobs:";
 
@@ -56,13 +82,24 @@ public class FinRecommendedJobService {
     @Cacheable(value = "recommendedJobCount", key = "#applicantId")
     public long countRecommendedJobsForApplicant(long applicantId) {
         try {
+            // The jobs the recommendation pages are cut from, so the badge matches the list.
+            Optional<List<Long>> recommended = recommendationSnapshotService.recommendedJobIds(applicantId);
+            if (recommended.isPresent()) {
+                return available(applicantId, recommended.get()).size();
+            }
+
             Optional<ApplicantProfile> optionalApplicant = applicantRepository.findByApplicantIdWithSkills(applicantId);
             if (optionalApplicant.isEmpty()) {
                 return 0;
             }
 
             ApplicantProfile applicant = optionalApplicant.get();
-            return findJobsMatchingApplicantProfile(applicant).size();
+            // Counted with a single COUNT query while the job index is still being built.
+            return jobRepository.countJobsMatchingApplicantProfile(
+                    skillIdsOf(applicant),
+                    locationProximityService.expandPreferredLocations(applicant.getPreferredJobLocations()),
+                    parseExperience(applicant.getExperience()),
+                    applicant.getSpecialization());
 
         } catch (Exception e) {
             logger.error("Error while counting recommended jobs for applicant {}", applicantId, e);
@@ -216,11 +253,10 @@ public class FinRecommendedJobService {
     
     public List<Job> findJobsMatchingApplicantProfile(ApplicantProfile applicantProfile) {
         try {
-            Set<String> lowercaseApplicantSkillNames = applicantProfile.getSkillsRequired().stream()
-                    .map(skill -> skill.getSkillName().toLowerCase())
-                    .collect(Collectors.toSet());
+            Set<Integer> applicantSkillIds = skillIdsOf(applicantProfile);
 
-            Set<String> preferredLocations = applicantProfile.getPreferredJobLocations();
+            Set<String> preferredLocations = locationProximityService
+                    .expandPreferredLocations(applicantProfile.getPreferredJobLocations());
             Integer experience = parseExperience(applicantProfile.getExperience());
 
             String specialization = applicantProfile.getSpecialization();
@@ -228,7 +264,7 @@ public class FinRecommendedJobService {
             logger.info("applicant id: {}", applicantProfile.getApplicant().getId());
             List<Object[]> result = jobRepository.findJobsMatchingApplicantProfile(
                     applicantProfile.getApplicant().getId(),
-                    lowercaseApplicantSkillNames,
+                    applicantSkillIds,
                     preferredLocations,
                     experience,
                     specialization);
@@ -249,29 +285,45 @@ public class FinRecommendedJobService {
         }
     }
 
-    // ✅ Caching recommended jobs
-    @Cacheable(value = "recommendedJobs", key = "#applicantId")
+    // ✅ Caching recommended jobs, per page and size
     public List<JobDTO> recommendJobsForApplicant(long applicantId, int page, int size) {
+        return recommendationCacheService.getOrLoad(applicantId, page, size,
+                () -> loadRecommendedJobs(applicantId, page, size));
+    }
+
+    // Served from the precomputed ranking; the matching query only runs while the
+    // job index is still being built.
+    private List<JobDTO> loadRecommendedJobs(long applicantId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Optional<List<Long>> recommended = recommendationSnapshotService.recommendedJobIds(applicantId);
+        if (recommended.isPresent()) {
+            List<Long> jobIds = available(applicantId, recommended.get());
+            int from = (int) Math.min(pageable.getOffset(), jobIds.size());
+            int to = Math.min(from + size, jobIds.size());
+            return jobRepository.findAllByIdInOrder(jobIds.subList(from, to)).stream()
+                    .map(this::convertEntityToDTO)
+                    .collect(Collectors.toList());
+        }
+
         ApplicantProfile applicantProfile = applicantRepository.findByApplicantId(applicantId);
 
         if (applicantProfile == null) {
             throw new CustomException("Applicant profile not found", HttpStatus.NOT_FOUND);
         }
 
-        Set<String> skillNames = applicantProfile.getSkillsRequired().stream()
-                .map(skill -> skill.getSkillName().toLowerCase())
-                .collect(Collectors.toSet());
+        Set<Integer> skillIds = skillIdsOf(applicantProfile);
 
-        Set<String> preferredLocations = applicantProfile.getPreferredJobLocations();
+        Set<String> preferredLocations = locationProximityService
+                .expandPreferredLocations(applicantProfile.getPreferredJobLocations());
         Integer experience = parseExperience(applicantProfile.getExperience());
 
         Page<Job> jobPage = jobRepository.findJobsMatchingApplicantProfile(
                 applicantId,
-                skillNames,
+                skillIds,
                 preferredLocations,
                 experience,
                 applicantProfile.getSpecialization(),
-                PageRequest.of(page, size)
+                pageable
         );
 
         return jobPage.getContent().stream()
@@ -279,21 +331,73 @@ public class FinRecommendedJobService {
                 .collect(Collectors.toList());
     }
 
+    // The snapshot's job ids, in ranking order, without jobs that were deactivated,
+    // applied to or saved since it was computed. Filtered before paging so every
+    // page but the last one is full.
+    private List<Long> available(long applicantId, List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return jobIds;
+        }
+        Set<Long> active = new HashSet<>(jobRepository.findActiveJobIdsIn(jobIds));
+        active.removeAll(savedJobRepository.findSavedJobIdsByApplicantId(applicantId));
+        for (Object[] row : applyJobRepository.findJobIdRowsByApplicantIds(List.of(applicantId))) {
+            active.remove((Long) row[1]);
+        }
+        return jobIds.stream().filter(active::contains).collect(Collectors.toList());
+    }
+
+    /**
+     * Cursor-paginated recommendations, newest first. Each page is a keyset
+     * query, so deep pages cost the same as the first one.
+     */
+    public CursorPageDTO<JobDTO> recommendJobsForApplicantAfter(long applicantId, JobCursor cursor, int size) {
+        CursorPageDTO.checkSize(size);
+        ApplicantProfile applicantProfile = applicantRepository.findByApplicantId(applicantId);
+
+        if (applicantProfile == null) {
+            throw new CustomException("Applicant profile not found", HttpStatus.NOT_FOUND);
+        }
+
+        Set<Integer> skillIds = skillIdsOf(applicantProfile);
+
+        List<Job> jobs = jobRepository.findJobsMatchingApplicantProfileAfter(
+                applicantId,
+                skillIds,
+                locationProximityService.expandPreferredLocations(applicantProfile.getPreferredJobLocations()),
+                parseExperience(applicantProfile.getExperience()),
+                applicantProfile.getSpecialization(),
+                cursor.getCreationDate(),
+                cursor.getId(),
+                PageRequest.of(0, size + 1)
+        );
+
+        return CursorPageDTO.fromJobs(jobs, size).map(this::convertEntityToDTO);
+    }
+
     // ✅ Evict cache when applicant profile is updated
-    @CacheEvict(value = {"jobsMatchingProfile", "recommendedJobs"}, key = "#applicantProfile.applicant.id")
+    @CacheEvict(value = "jobsMatchingProfile", key = "#applicantProfile.applicant.id")
     public void updateApplicantProfile(ApplicantProfile applicantProfile) {
         applicantRepository.save(applicantProfile);
+        recommendationUpdateService.onProfileChanged(applicantProfile.getApplicant().getId());
         logger.info("Applicant profile updated. Cache evicted.");
     }
 
-    // ✅ Evict all cached jobs when job data is updated
-    @CacheEvict(value = {"jobsMatchingProfile", "recommendedJobs"}, allEntries = true)
+    // Only the applicants the job matches get their recommendations refreshed.
     public void updateJob(Job job) {
-        jobRepository.save(job);
-        logger.info("Job details updated. Cache evicted.");
+        jobService.onJobSaved(jobRepository.save(job));
+        logger.info("Job details updated. Recommendations of matching applicants refreshed.");
     }
 
 
+    // Canonical ids of the applicant's skills and of the job skills they most
+    // likely mean (typos, spacing).
+    private Set<Integer> skillIdsOf(ApplicantProfile applicantProfile) {
+        Set<String> skillNames = applicantProfile.getSkillsRequired().stream()
+                .map(ApplicantSkills::getSkillName)
+                .collect(Collectors.toSet());
+        return skillDictionaryService.idsOf(fuzzySkillMatchService.expandAll(skillNames));
+    }
+
     private Integer parseExperience(String experience) {
         try {
             return Integer.parseInt(experience);
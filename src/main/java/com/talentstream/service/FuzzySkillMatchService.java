@@ -0,0 +1,121 @@
+package com.talentstream.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.entity.Job;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.search.SearchText;
+import com.talentstream.search.TrigramIndex;
+
+/**
+ * Expands a typed skill name into the job skill names it most likely means
+ * ("Javscript" -> "javascript"), using a trigram index over the skills of
+ * active jobs. Expanded names use the same normalization as canonical skill
+ * names, so they map directly to SkillDictionaryService ids.
+ */
+@Service
+public class FuzzySkillMatchService {
+
+	@Autowired
+	private JobRepository jobRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(FuzzySkillMatchService.class);
+
+	private static final int MAX_EXPANSIONS = 5;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private TrigramIndex index = new TrigramIndex();
+
+	// Wall-clock time at which the last completed rebuild started loading skills.
+	private volatile long loadedSince;
+
+	@Scheduled(initialDelay = 0, fixedDelayString = "${talentstream.search.skill-vocabulary.rebuild-interval-ms:900000}")
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		try {
+			TrigramIndex rebuilt = new TrigramIndex();
+			for (Object[] row : jobRepository.countActiveJobsBySkillName()) {
+				rebuilt.add((String) row[0]);
+			}
+			lock.writeLock().lock();
+			try {
+				index = rebuilt;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			loadedSince = start;
+			logger.info("Skill vocabulary rebuilt with {} skills", rebuilt.size());
+		} catch (Exception e) {
+			logger.error("Failed to rebuild skill vocabulary", e);
+		}
+	}
+
+	// Called for every saved job, so new skills are matchable before the next
+	// rebuild. Returns whether the vocabulary gained a skill, which can change
+	// the expansion of other skill names. Never throws.
+	public boolean onJobChanged(Job job) {
+		try {
+			if (job.getSkillsRequired() == null) {
+				return false;
+			}
+			boolean added = false;
+			lock.writeLock().lock();
+			try {
+				for (RecuriterSkills skill : job.getSkillsRequired()) {
+					if (SearchText.normalize(skill.getSkillName()) != null && !index.contains(skill.getSkillName())) {
+						index.add(skill.getSkillName());
+						added = true;
+					}
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+			return added;
+		} catch (Exception e) {
+			logger.warn("Could not add skills of job {} to the skill vocabulary", job.getId(), e);
+			return false;
+		}
+	}
+
+	// Skills added anywhere before this time are in the vocabulary; later ones
+	// only if they were added through this instance. 0 until built.
+	public long loadedSince() {
+		return loadedSince;
+	}
+
+	// The normalized skill name itself plus its closest vocabulary matches.
+	public Set<String> expand(String skillName) {
+		Set<String> expanded = new LinkedHashSet<>();
+		String normalized = SearchText.normalize(skillName);
+		if (normalized == null) {
+			return expanded;
+		}
+		expanded.add(normalized);
+		lock.readLock().lock();
+		try {
+			expanded.addAll(index.match(normalized, MAX_EXPANSIONS));
+		} finally {
+			lock.readLock().unlock();
+		}
+		return expanded;
+	}
+
+	public Set<String> expandAll(Collection<String> skillNames) {
+		Set<String> expanded = new LinkedHashSet<>();
+		for (String skillName : skillNames) {
+			expanded.addAll(expand(skillName));
+		}
+		return expanded;
+	}
+}
@@ -0,0 +1,136 @@
+package com.talentstream.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Idempotency-Key support for write endpoints that clients retry. The first
+ * request with a key claims it in Redis (SET NX) and runs the write; its
+ * response is stored under the key for ttl-hours and replayed to every retry
+ * with the same key, so a retry never repeats the write. A retry arriving
+ * while the first request is still running gets 409. Server errors are not
+ * stored, so they can be retried. Without a key, or when Redis is down, the
+ * write simply runs.
+ */
+@Service
+public class IdempotencyService {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	@Autowired
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final String IN_PROGRESS = "IN_PROGRESS";
+	private static final int MAX_KEY_LENGTH = 128;
+
+	@Value("${talentstream.idempotency.ttl-hours:24}")
+	private long ttlHours;
+
+	// How long a claimed key blocks retries if the instance dies mid-request.
+	@Value("${talentstream.idempotency.lock-seconds:60}")
+	private long lockSeconds;
+
+	// The scope names the endpoint and the resource ids of the request, so the
+	// same key sent to a different request runs that request.
+	public ResponseEntity<Object> execute(String scope, String idempotencyKey, Supplier<ResponseEntity<?>> write) {
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return copy(write.get());
+		}
+		if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+			return ResponseEntity.badRequest().body(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+		}
+		String key = KEY_PREFIX + scope + ":" + idempotencyKey.trim();
+		Boolean claimed;
+		try {
+			claimed = redisTemplate.opsForValue().setIfAbsent(key, IN_PROGRESS, Duration.ofSeconds(lockSeconds));
+		} catch (Exception e) {
+			logger.warn("Idempotency store unavailable, running {} without it", scope, e);
+			return copy(write.get());
+		}
+		if (!Boolean.TRUE.equals(claimed)) {
+			return replay(key);
+		}
+		ResponseEntity<?> response;
+		try {
+			response = write.get();
+		} catch (RuntimeException e) {
+			release(key);
+			throw e;
+		}
+		if (response.getStatusCode().is5xxServerError()) {
+			release(key);
+		} else {
+			store(key, response);
+		}
+		return copy(response);
+	}
+
+	private ResponseEntity<Object> replay(String key) {
+		Object stored;
+		try {
+			stored = redisTemplate.opsForValue().get(key);
+		} catch (Exception e) {
+			logger.warn("Could not read idempotent response {}", key, e);
+			stored = null;
+		}
+		if (!(stored instanceof Map)) {
+			return ResponseEntity.status(HttpStatus.CONFLICT)
+					.body("A request with this " + HEADER + " is still being processed");
+		}
+		Map<?, ?> entry = (Map<?, ?>) stored;
+		ResponseEntity.BodyBuilder builder = ResponseEntity.status(((Number) entry.get("status")).intValue())
+				.header("Idempotent-Replayed", "true");
+		if (Boolean.TRUE.equals(entry.get("json"))) {
+			builder.contentType(MediaType.APPLICATION_JSON);
+		}
+		return builder.body(entry.get("body"));
+	}
+
+	private void store(String key, ResponseEntity<?> response) {
+		try {
+			Object body = response.getBody();
+			boolean json = body != null && !(body instanceof String);
+			Map<String, Object> entry = new HashMap<>();
+			entry.put("status", response.getStatusCodeValue());
+			entry.put("body", json ? objectMapper.writeValueAsString(body) : body);
+			entry.put("json", json);
+			redisTemplate.opsForValue().set(key, entry, Duration.ofHours(ttlHours));
+		} catch (Exception e) {
+			logger.warn("Could not store idempotent response {}", key, e);
+			release(key);
+		}
+	}
+
+	private void release(String key) {
+		try {
+			redisTemplate.delete(key);
+		} catch (Exception e) {
+			logger.warn("Could not release idempotency key {}", key, e);
+		}
+	}
+
+	private static ResponseEntity<Object> copy(ResponseEntity<?> response) {
+		return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders())
+				.body(response.getBody());
+	}
+}
@@ -0,0 +1,609 @@
+package com.talentstream.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.dto.JobCursor;
+import com.talentstream.entity.Job;
+import com.talentstream.entity.JobSearchCriteria;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.search.ApplicantCriteria;
+import com.talentstream.search.IndexedJob;
+import com.talentstream.search.JobIndexField;
+import com.talentstream.search.MinHashLsh;
+import com.talentstream.search.RangeIndex;
+import com.talentstream.search.RelevanceScorer;
+import com.talentstream.search.SearchText;
+
+/**
+ * In-process inverted index over active jobs. Every job gets a dense document
+ * id and each indexed field keeps one {@link BitSet} posting list per
+ * normalized value, so conjunctive searches are a handful of bitwise ANDs
+ * instead of a join on job_skills. Experience and salary ranges are kept in
+ * {@link RangeIndex}es so range filters only add one more AND. MinHash
+ * signatures of each job's skills and title tokens back "similar jobs".
+ *
+ * The index is rebuilt from the database on startup and on a fixed interval
+ * (which also picks up jobs changed through other instances), and is kept
+ * current in between by {@link JobService} calling {@link #index(Job)} after
+ * every write.
+ */
+@Service
+public class JobIndexService {
+
+	@Autowired
+	private JobRepository jobRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(JobIndexService.class);
+
+	private static final String INACTIVE = "inactive";
+
+	// Facet name exposed by the search API for each faceted field.
+	private static final Map<JobIndexField, String> FACETS = new LinkedHashMap<>();
+
+	static {
+		FACETS.put(JobIndexField.LOCATION, "location");
+		FACETS.put(JobIndexField.INDUSTRY_TYPE, "industryType");
+		FACETS.put(JobIndexField.EMPLOYEE_TYPE, "employeeType");
+		FACETS.put(JobIndexField.MINIMUM_QUALIFICATION, "minimumQualification");
+		FACETS.put(JobIndexField.SPECIALIZATION, "specialization");
+		FACETS.put(JobIndexField.SKILL, "skills");
+	}
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<JobIndexField, Map<String, BitSet>> postings = new EnumMap<>(JobIndexField.class);
+	private final List<IndexedJob> documents = new ArrayList<>();
+	private final Map<Long, Integer> docIdsByJobId = new HashMap<>();
+	private final BitSet liveDocs = new BitSet();
+	private final RangeIndex experienceRanges = new RangeIndex();
+	private final RangeIndex salaryRanges = new RangeIndex();
+	// Skills as dense ordinals, and every document's skills as a bitset over them.
+	private final Map<String, Integer> skillOrdinals = new HashMap<>();
+	private final List<long[]> documentSkillBits = new ArrayList<>();
+	// MinHash signatures of skills plus title tokens, for "similar jobs".
+	private final MinHashLsh similarJobs = new MinHashLsh();
+
+	private final RelevanceScorer scorer;
+	private final double minScore;
+
+	// Writes made while a rebuild loads its snapshot, by job id (null means
+	// removed); replayed on top of the snapshot so they are not lost. Null when
+	// no rebuild is running. Guarded by the write lock.
+	private Map<Long, IndexedJob> writesDuringRebuild;
+
+	private volatile boolean ready;
+
+	// Wall-clock time at which the last completed rebuild started loading jobs.
+	private volatile long loadedSince;
+
+	public JobIndexService(@Value("${talentstream.recommendations.weights.skills:0.5}") double skillWeight,
+			@Value("${talentstream.recommendations.weights.location:0.2}") double locationWeight,
+			@Value("${talentstream.recommendations.weights.experience:0.2}") double experienceWeight,
+			@Value("${talentstream.recommendations.weights.specialization:0.1}") double specializationWeight,
+			@Value("${talentstream.recommendations.min-score:0.2}") double minScore) {
+		this.scorer = new RelevanceScorer(skillWeight, locationWeight, experienceWeight, specializationWeight);
+		this.minScore = minScore;
+		for (JobIndexField field : JobIndexField.values()) {
+			postings.put(field, new HashMap<>());
+		}
+	}
+
+	// Reloads every active job from the database and replaces the index content.
+	// Writes that land while the jobs are being loaded are applied again after
+	// the swap, since the loaded rows may predate them.
+	@Scheduled(initialDelay = 0, fixedDelayString = "${talentstream.search.index.rebuild-interval-ms:300000}")
+	public synchronized void rebuild() {
+		long start = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			writesDuringRebuild = new LinkedHashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		try {
+			List<IndexedJob> activeJobs = loadActiveJobs();
+			lock.writeLock().lock();
+			try {
+				postings.values().forEach(Map::clear);
+				experienceRanges.clear();
+				salaryRanges.clear();
+				documents.clear();
+				docIdsByJobId.clear();
+				liveDocs.clear();
+				skillOrdinals.clear();
+				documentSkillBits.clear();
+				similarJobs.clear();
+				for (IndexedJob job : activeJobs) {
+					putLocked(job);
+				}
+				for (Map.Entry<Long, IndexedJob> write : writesDuringRebuild.entrySet()) {
+					if (write.getValue() == null) {
+						removeLocked(write.getKey());
+					} else {
+						putLocked(write.getValue());
+					}
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+			ready = true;
+			loadedSince = start;
+			logger.info("Job search index rebuilt with {} active jobs in {} ms", activeJobs.size(),
+					System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			logger.error("Failed to rebuild job search index", e);
+		} finally {
+			lock.writeLock().lock();
+			try {
+				writesDuringRebuild = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	private List<IndexedJob> loadActiveJobs() {
+		Map<Long, List<String>> skillsByJobId = new HashMap<>();
+		for (Object[] row : jobRepository.findActiveJobSkillRows()) {
+			skillsByJobId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+		}
+		List<IndexedJob> jobs = new ArrayList<>();
+		for (Object[] row : jobRepository.findActiveJobIndexRows()) {
+			Long jobId = (Long) row[0];
+			jobs.add(new IndexedJob(jobId, (LocalDate) row[1], (String) row[2], (String) row[3], (String) row[4],
+					(String) row[5], (String) row[6], (String) row[7], skillsByJobId.get(jobId),
+					number(row[8]).intValue(), number(row[9]).intValue(), number(row[10]).doubleValue(),
+					number(row[11]).doubleValue()));
+		}
+		return jobs;
+	}
+
+	// Older rows may have null experience or salary columns.
+	private static Number number(Object value) {
+		return value == null ? 0 : (Number) value;
+	}
+
+	// Adds, refreshes or drops the job depending on its status and returns the
+	// snapshot it replaced, or null. Never throws: a failure here must not fail
+	// the write that triggered it, and the next rebuild repairs the index anyway.
+	public IndexedJob index(Job job) {
+		if (job == null || job.getId() == null) {
+			return null;
+		}
+		try {
+			if (INACTIVE.equalsIgnoreCase(job.getStatus())) {
+				return remove(job.getId());
+			}
+			IndexedJob indexedJob = IndexedJob.from(job);
+			lock.writeLock().lock();
+			try {
+				if (writesDuringRebuild != null) {
+					writesDuringRebuild.put(indexedJob.getId(), indexedJob);
+				}
+				return putLocked(indexedJob);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		} catch (Exception e) {
+			logger.warn("Could not update job search index for job {}", job.getId(), e);
+			return null;
+		}
+	}
+
+	public IndexedJob remove(Long jobId) {
+		lock.writeLock().lock();
+		try {
+			if (writesDuringRebuild != null) {
+				writesDuringRebuild.put(jobId, null);
+			}
+			return removeLocked(jobId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private IndexedJob removeLocked(Long jobId) {
+		Integer docId = docIdsByJobId.get(jobId);
+		if (docId == null) {
+			return null;
+		}
+		IndexedJob previous = documents.get(docId);
+		if (previous != null) {
+			removePostingsLocked(docId, previous);
+		}
+		documents.set(docId, null);
+		documentSkillBits.set(docId, null);
+		similarJobs.remove(docId);
+		liveDocs.clear(docId);
+		return previous;
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	// Job writes made anywhere before this time are reflected in the index;
+	// later ones only if they went through this instance. 0 until built.
+	public long loadedSince() {
+		return loadedSince;
+	}
+
+	// Returns the ids of all active jobs matching every non-blank criterion,
+	// newest first.
+	public List<Long> search(JobSearchCriteria criteria) {
+		long start = System.nanoTime();
+		lock.readLock().lock();
+		try {
+			List<Long> jobIds = sortedJobIdsLocked(matchLocked(criteria));
+			logger.debug("Index search matched {} jobs in {} us", jobIds.size(), (System.nanoTime() - start) / 1000);
+			return jobIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Keyset variant of search: at most limit ids that come strictly after the
+	// cursor, newest first.
+	public List<Long> searchAfter(JobSearchCriteria criteria, JobCursor cursor, int limit) {
+		lock.readLock().lock();
+		try {
+			return pageAfterLocked(matchLocked(criteria), cursor, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Jobs requiring any of the given skills, newest first.
+	public List<Long> searchBySkills(Collection<String> skillNames) {
+		lock.readLock().lock();
+		try {
+			return sortedJobIdsLocked(anySkillLocked(skillNames));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public List<Long> searchBySkillsAfter(Collection<String> skillNames, JobCursor cursor, int limit) {
+		lock.readLock().lock();
+		try {
+			return pageAfterLocked(anySkillLocked(skillNames), cursor, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private BitSet anySkillLocked(Collection<String> skillNames) {
+		BitSet result = new BitSet();
+		Map<String, BitSet> skillPostings = postings.get(JobIndexField.SKILL);
+		for (String skillName : skillNames) {
+			BitSet posting = skillPostings.get(SearchText.normalize(skillName));
+			if (posting != null) {
+				result.or(posting);
+			}
+		}
+		result.and(liveDocs);
+		return result;
+	}
+
+	// Top jobs for an applicant, ranked by weighted relevance (see
+	// RelevanceScorer); ties go to the newest job. Candidates are the jobs
+	// sharing at least one criterion with the applicant, jobs scoring below
+	// the minimum score are dropped, and only a heap of limit entries is kept.
+	public List<Long> recommend(ApplicantCriteria applicant, Set<Long> excludedJobIds, int limit) {
+		lock.readLock().lock();
+		try {
+			BitSet candidates = new BitSet();
+			BitSet applicantSkillBits = new BitSet();
+			for (String skill : applicant.getSkills()) {
+				orPosting(candidates, JobIndexField.SKILL, skill);
+				Integer ordinal = skillOrdinals.get(skill);
+				if (ordinal != null) {
+					applicantSkillBits.set(ordinal);
+				}
+			}
+			long[] applicantSkills = applicantSkillBits.toLongArray();
+			BitSet locationHits = new BitSet();
+			for (String location : applicant.getLocations()) {
+				orPosting(locationHits, JobIndexField.LOCATION, location);
+			}
+			candidates.or(locationHits);
+			Integer experience = applicant.getExperience();
+			if (experience != null) {
+				candidates.or(experienceRanges.overlapping(
+						(double) experience - RelevanceScorer.EXPERIENCE_TOLERANCE_YEARS,
+						(double) experience + RelevanceScorer.EXPERIENCE_TOLERANCE_YEARS));
+			}
+			BitSet specializationHits = new BitSet();
+			orPosting(specializationHits, JobIndexField.SPECIALIZATION, applicant.getSpecialization());
+			candidates.or(specializationHits);
+			candidates.and(liveDocs);
+
+			double[] scores = new double[documents.size()];
+			// Worst first: lower score, then older.
+			Comparator<Integer> rank = (a, b) -> scores[a] != scores[b] ? Double.compare(scores[a], scores[b])
+					: IndexedJob.NEWEST_FIRST.compare(documents.get(b), documents.get(a));
+			PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, rank);
+			for (int docId = candidates.nextSetBit(0); docId >= 0; docId = candidates.nextSetBit(docId + 1)) {
+				IndexedJob job = documents.get(docId);
+				if (excludedJobIds.contains(job.getId())) {
+					continue;
+				}
+				scores[docId] = scorer.score(applicantSkills, documentSkillBits.get(docId), locationHits.get(docId),
+						RelevanceScorer.experienceFit(experience, job.getMinimumExperience(), job.getMaximumExperience()),
+						specializationHits.get(docId));
+				if (scores[docId] < minScore) {
+					continue;
+				}
+				best.offer(docId);
+				if (best.size() > limit) {
+					best.poll();
+				}
+			}
+			List<Integer> ranked = new ArrayList<>(best);
+			ranked.sort(rank.reversed());
+			List<Long> jobIds = new ArrayList<>(ranked.size());
+			for (Integer docId : ranked) {
+				jobIds.add(documents.get(docId).getId());
+			}
+			return jobIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void orPosting(BitSet result, JobIndexField field, String key) {
+		BitSet posting = key == null ? null : postings.get(field).get(key);
+		if (posting != null) {
+			result.or(posting);
+		}
+	}
+
+	// Only a heap of limit entries is kept, so the cost does not grow with the
+	// depth of the cursor.
+	private List<Long> pageAfterLocked(BitSet docs, JobCursor cursor, int limit) {
+		IndexedJob position = new IndexedJob(cursor.getId(), cursor.getCreationDate(), null, null, null, null, null,
+				null, null, 0, 0, 0, 0);
+		PriorityQueue<IndexedJob> newest = new PriorityQueue<>(limit + 1, IndexedJob.NEWEST_FIRST.reversed());
+		for (int docId = docs.nextSetBit(0); docId >= 0; docId = docs.nextSetBit(docId + 1)) {
+			IndexedJob job = documents.get(docId);
+			if (IndexedJob.NEWEST_FIRST.compare(job, position) > 0) {
+				newest.offer(job);
+				if (newest.size() > limit) {
+					newest.poll();
+				}
+			}
+		}
+		List<IndexedJob> page = new ArrayList<>(newest);
+		page.sort(IndexedJob.NEWEST_FIRST);
+		List<Long> jobIds = new ArrayList<>(page.size());
+		for (IndexedJob job : page) {
+			jobIds.add(job.getId());
+		}
+		return jobIds;
+	}
+
+	// Counts per value of every faceted field, most frequent first. Each facet
+	// is counted against the hits of all the other criteria (its own filter is
+	// left out) so the client can show counts for the alternatives of a chip
+	// that is already selected. Skills are limited to the top maxSkills.
+	public Map<String, Map<String, Integer>> facetCounts(JobSearchCriteria criteria, int maxSkills) {
+		Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+		lock.readLock().lock();
+		try {
+			for (Map.Entry<JobIndexField, String> facet : FACETS.entrySet()) {
+				JobIndexField field = facet.getKey();
+				BitSet hits = matchLocked(criteria, field);
+				int hitCount = hits.cardinality();
+				List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+				for (Map.Entry<String, BitSet> posting : postings.get(field).entrySet()) {
+					if (posting.getValue().intersects(hits)) {
+						counts.add(Map.entry(posting.getKey(), intersectionCount(posting.getValue(), hits, hitCount)));
+					}
+				}
+				counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+						.thenComparing(Map.Entry.comparingByKey()));
+				int limit = field == JobIndexField.SKILL ? Math.min(maxSkills, counts.size()) : counts.size();
+				Map<String, Integer> values = new LinkedHashMap<>();
+				for (Map.Entry<String, Integer> count : counts.subList(0, limit)) {
+					values.put(count.getKey(), count.getValue());
+				}
+				facets.put(facet.getValue(), values);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return facets;
+	}
+
+	// Walks the sparser of the two sets instead of allocating an AND copy.
+	private static int intersectionCount(BitSet posting, BitSet hits, int hitCount) {
+		boolean postingIsSparser = posting.cardinality() <= hitCount;
+		BitSet sparse = postingIsSparser ? posting : hits;
+		BitSet dense = postingIsSparser ? hits : posting;
+		int count = 0;
+		for (int docId = sparse.nextSetBit(0); docId >= 0; docId = sparse.nextSetBit(docId + 1)) {
+			if (dense.get(docId)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private BitSet matchLocked(JobSearchCriteria criteria) {
+		return matchLocked(criteria, null);
+	}
+
+	// Applies every criterion except the one on the ignored field.
+	private BitSet matchLocked(JobSearchCriteria criteria, JobIndexField ignored) {
+		BitSet result = (BitSet) liveDocs.clone();
+		intersectLocked(result, JobIndexField.SKILL, SearchText.normalize(criteria.getSkillName()), ignored);
+		for (String token : SearchText.tokenize(criteria.getJobTitle())) {
+			intersectLocked(result, JobIndexField.TITLE, token, ignored);
+		}
+		intersectLocked(result, JobIndexField.LOCATION, SearchText.normalize(criteria.getLocation()), ignored);
+		intersectLocked(result, JobIndexField.INDUSTRY_TYPE, SearchText.normalize(criteria.getIndustryType()),
+				ignored);
+		intersectLocked(result, JobIndexField.EMPLOYEE_TYPE, SearchText.normalize(criteria.getEmployeeType()),
+				ignored);
+		intersectLocked(result, JobIndexField.MINIMUM_QUALIFICATION,
+				SearchText.normalize(criteria.getMinimumQualification()), ignored);
+		intersectLocked(result, JobIndexField.SPECIALIZATION, SearchText.normalize(criteria.getSpecialization()),
+				ignored);
+		intersectRange(result, experienceRanges.overlapping(toDouble(criteria.getMinExperience()),
+				toDouble(criteria.getMaxExperience())));
+		intersectRange(result, salaryRanges.overlapping(criteria.getMinSalary(), criteria.getMaxSalary()));
+		return result;
+	}
+
+	private static void intersectRange(BitSet result, BitSet range) {
+		if (range != null) {
+			result.and(range);
+		}
+	}
+
+	private static Double toDouble(Integer value) {
+		return value == null ? null : value.doubleValue();
+	}
+
+	private void intersectLocked(BitSet result, JobIndexField field, String key, JobIndexField ignored) {
+		if (key == null || field == ignored) {
+			return;
+		}
+		BitSet posting = postings.get(field).get(key);
+		if (posting == null) {
+			result.clear();
+		} else {
+			result.and(posting);
+		}
+	}
+
+	// Active jobs whose skills and title tokens overlap the job's, most similar
+	// first (newest first among equals), as job id -> estimated Jaccard
+	// similarity. Candidates come from the LSH buckets, so only jobs sharing a
+	// band with the job are compared.
+	public Map<Long, Double> similarJobs(IndexedJob job, int limit, double minSimilarity) {
+		lock.readLock().lock();
+		try {
+			Integer docId = docIdsByJobId.get(job.getId());
+			int[] signature = docId != null && liveDocs.get(docId) ? similarJobs.signatureOf(docId)
+					: MinHashLsh.signature(similarityTokens(job));
+			Map<Long, Double> similar = new LinkedHashMap<>();
+			if (signature == null) {
+				return similar;
+			}
+			List<IndexedJob> matches = new ArrayList<>();
+			Map<Long, Double> similarities = new HashMap<>();
+			for (Integer candidate : similarJobs.candidates(signature)) {
+				IndexedJob other = documents.get(candidate);
+				if (other == null || other.getId().equals(job.getId())) {
+					continue;
+				}
+				double similarity = MinHashLsh.similarity(signature, similarJobs.signatureOf(candidate));
+				if (similarity >= minSimilarity) {
+					matches.add(other);
+					similarities.put(other.getId(), similarity);
+				}
+			}
+			matches.sort(Comparator.<IndexedJob>comparingDouble(other -> -similarities.get(other.getId()))
+					.thenComparing(IndexedJob.NEWEST_FIRST));
+			for (IndexedJob other : matches.subList(0, Math.min(limit, matches.size()))) {
+				similar.put(other.getId(), similarities.get(other.getId()));
+			}
+			return similar;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static List<String> similarityTokens(IndexedJob job) {
+		List<String> tokens = new ArrayList<>();
+		for (String skill : job.getSkills()) {
+			tokens.add("skill:" + skill);
+		}
+		for (String token : job.getTitleTokens()) {
+			tokens.add("title:" + token);
+		}
+		return tokens;
+	}
+
+	private List<Long> sortedJobIdsLocked(BitSet docs) {
+		List<IndexedJob> matches = new ArrayList<>(docs.cardinality());
+		for (int docId = docs.nextSetBit(0); docId >= 0; docId = docs.nextSetBit(docId + 1)) {
+			matches.add(documents.get(docId));
+		}
+		matches.sort(IndexedJob.NEWEST_FIRST);
+		List<Long> jobIds = new ArrayList<>(matches.size());
+		for (IndexedJob job : matches) {
+			jobIds.add(job.getId());
+		}
+		return jobIds;
+	}
+
+	private IndexedJob putLocked(IndexedJob job) {
+		Integer docId = docIdsByJobId.get(job.getId());
+		if (docId == null) {
+			docId = documents.size();
+			documents.add(null);
+			documentSkillBits.add(null);
+			docIdsByJobId.put(job.getId(), docId);
+		}
+		IndexedJob previous = documents.get(docId);
+		if (previous != null) {
+			removePostingsLocked(docId, previous);
+		}
+		documents.set(docId, job);
+		for (JobIndexField field : JobIndexField.values()) {
+			Map<String, BitSet> fieldPostings = postings.get(field);
+			for (String value : job.valuesOf(field)) {
+				fieldPostings.computeIfAbsent(value, key -> new BitSet()).set(docId);
+			}
+		}
+		BitSet skillBits = new BitSet();
+		for (String skill : job.getSkills()) {
+			skillBits.set(skillOrdinals.computeIfAbsent(skill, key -> skillOrdinals.size()));
+		}
+		documentSkillBits.set(docId, skillBits.toLongArray());
+		similarJobs.put(docId, similarityTokens(job));
+		experienceRanges.add(docId, job.getMinimumExperience(), job.getMaximumExperience());
+		salaryRanges.add(docId, job.getMinSalary(), job.getMaxSalary());
+		liveDocs.set(docId);
+		return previous;
+	}
+
+	private void removePostingsLocked(int docId, IndexedJob job) {
+		for (JobIndexField field : JobIndexField.values()) {
+			Map<String, BitSet> fieldPostings = postings.get(field);
+			Collection<String> values = job.valuesOf(field);
+			for (String value : values) {
+				BitSet posting = fieldPostings.get(value);
+				if (posting != null) {
+					posting.clear(docId);
+					if (posting.isEmpty()) {
+						fieldPostings.remove(value);
+					}
+				}
+			}
+		}
+		experienceRanges.remove(docId, job.getMinimumExperience(), job.getMaximumExperience());
+		salaryRanges.remove(docId, job.getMinSalary(), job.getMaxSalary());
+	}
+}
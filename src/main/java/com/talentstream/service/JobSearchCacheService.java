@@ -0,0 +1,203 @@
+package com.talentstream.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.dto.JobIdPageDTO;
+import com.talentstream.entity.Job;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.search.IndexedJob;
+import com.talentstream.search.SearchText;
+
+/**
+ * Shared Redis cache of skill search result pages. Results do not depend on
+ * who searches, so entries are keyed by the normalized skill set only, with
+ * one hash per skill set and one field per page and size.
+ *
+ * Every skill has a generation counter that is part of the key. Saving a job
+ * bumps the counters of the skills it had and has, so exactly the entries
+ * that could contain it stop being read; they then expire through their TTL.
+ * A page computed concurrently with a job write is stored under the old
+ * generation and is never served. A vocabulary generation, bumped when a job
+ * brings a skill the typo matcher did not know, is part of every key since
+ * such a skill can change what other skill names expand to.
+ *
+ * Search indexes are per instance, so a page is only stored when this
+ * instance has seen every write behind the generations in its key: the write
+ * went through this instance, or happened before its last index (or
+ * vocabulary) rebuild started. Otherwise the page is served uncached.
+ */
+@Service
+public class JobSearchCacheService {
+
+	@Autowired
+	private RedisTemplate<String, Object> redisTemplate;
+
+	private static final Logger logger = LoggerFactory.getLogger(JobSearchCacheService.class);
+
+	private static final String PAGES_PREFIX = "jobSearch:skills:";
+	private static final String GENERATION_PREFIX = "jobSearch:generation:";
+	private static final String BUMPED_PREFIX = "jobSearch:bumped:";
+	private static final String VOCABULARY_GENERATION = "jobSearch:vocabulary:generation";
+	private static final String VOCABULARY_BUMPED = "jobSearch:vocabulary:bumped";
+	private static final String INACTIVE = "inactive";
+
+	@Autowired
+	private JobIndexService jobIndexService;
+
+	@Autowired
+	private FuzzySkillMatchService fuzzySkillMatchService;
+
+	// Highest generation per generation key that this instance bumped itself,
+	// after applying the write to its own index.
+	private final ConcurrentMap<String, Long> localGenerations = new ConcurrentHashMap<>();
+
+	@Value("${talentstream.search.cache.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	// Cached page for the skills, or the loader's result (stored for the next
+	// caller). Redis failures fall back to the loader.
+	public JobIdPageDTO getOrLoad(Collection<String> skillNames, Pageable pageable, Supplier<JobIdPageDTO> loader) {
+		Set<String> skills = normalize(skillNames);
+		String field = pageable.getPageNumber() + ":" + pageable.getPageSize();
+		String key;
+		boolean seenLocally;
+		try {
+			List<String> generationKeys = new ArrayList<>(skills.size() + 1);
+			List<String> bumpedKeys = new ArrayList<>(skills.size() + 1);
+			for (String skill : skills) {
+				generationKeys.add(GENERATION_PREFIX + skill);
+				bumpedKeys.add(BUMPED_PREFIX + skill);
+			}
+			generationKeys.add(VOCABULARY_GENERATION);
+			bumpedKeys.add(VOCABULARY_BUMPED);
+			List<String> keys = new ArrayList<>(generationKeys);
+			keys.addAll(bumpedKeys);
+			List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+			long[] generations = new long[generationKeys.size()];
+			seenLocally = true;
+			for (int i = 0; i < generations.length; i++) {
+				generations[i] = toLong(values, i);
+				long bumpedAt = toLong(values, generations.length + i);
+				long loadedSince = i < skills.size() ? jobIndexService.loadedSince()
+						: fuzzySkillMatchService.loadedSince();
+				seenLocally &= generations[i] == 0
+						|| localGenerations.getOrDefault(generationKeys.get(i), 0L) >= generations[i]
+						|| (loadedSince > 0 && bumpedAt <= loadedSince);
+			}
+			key = pagesKey(skills, generations);
+			Object cached = redisTemplate.opsForHash().get(key, field);
+			if (cached instanceof JobIdPageDTO) {
+				return (JobIdPageDTO) cached;
+			}
+		} catch (Exception e) {
+			logger.warn("Job search cache unavailable, searching without it", e);
+			return loader.get();
+		}
+		JobIdPageDTO page = loader.get();
+		if (!seenLocally) {
+			logger.debug("Not caching job search page {}: local index is behind", key);
+			return page;
+		}
+		try {
+			redisTemplate.opsForHash().put(key, field, page);
+			redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+		} catch (Exception e) {
+			logger.warn("Could not store job search page {}", key, e);
+		}
+		return page;
+	}
+
+	// Invalidates every cached search the job could appear in, before or after
+	// the write, and every cached search at all when the job added a skill to the
+	// typo matcher's vocabulary. Skips writes that cannot change any skill search
+	// result (for example a description edit). Called after the write has been
+	// applied to this instance's index. Never throws.
+	public void onJobChanged(IndexedJob previous, Job current, boolean vocabularyChanged) {
+		try {
+			if (vocabularyChanged) {
+				bump(VOCABULARY_GENERATION, VOCABULARY_BUMPED);
+			}
+			Set<String> currentSkills = new TreeSet<>();
+			boolean active = current != null && !INACTIVE.equalsIgnoreCase(current.getStatus());
+			if (active && current.getSkillsRequired() != null) {
+				for (RecuriterSkills skill : current.getSkillsRequired()) {
+					currentSkills.add(skill.getSkillName());
+				}
+			}
+			currentSkills = normalize(currentSkills);
+			if (previous != null && active && previous.getSkills().equals(currentSkills)
+					&& Objects.equals(previous.getCreationDate(), current.getCreationDate())) {
+				return;
+			}
+			Set<String> affected = new TreeSet<>(currentSkills);
+			if (previous != null) {
+				affected.addAll(previous.getSkills());
+			}
+			evict(affected);
+		} catch (Exception e) {
+			logger.warn("Could not invalidate job search cache for job {}", current != null ? current.getId() : null, e);
+		}
+	}
+
+	public void evict(Collection<String> skillNames) {
+		for (String skill : normalize(skillNames)) {
+			bump(GENERATION_PREFIX + skill, BUMPED_PREFIX + skill);
+		}
+	}
+
+	// The time is written first, so a reader never pairs the new generation
+	// with the previous bump time.
+	private void bump(String generationKey, String bumpedKey) {
+		redisTemplate.opsForValue().set(bumpedKey, System.currentTimeMillis());
+		Long generation = redisTemplate.opsForValue().increment(generationKey);
+		if (generation != null) {
+			localGenerations.merge(generationKey, generation, Math::max);
+		}
+	}
+
+	// Key for the skills at the given generations; the last generation is the
+	// vocabulary's.
+	private static String pagesKey(Set<String> skills, long[] generations) {
+		StringBuilder key = new StringBuilder(PAGES_PREFIX);
+		int i = 0;
+		for (String skill : skills) {
+			key.append(i == 0 ? "" : ",").append(skill).append('@').append(generations[i]);
+			i++;
+		}
+		return key.append("|v").append(generations[i]).toString();
+	}
+
+	private static long toLong(List<Object> values, int index) {
+		Object value = values != null && index < values.size() ? values.get(index) : null;
+		return value == null ? 0 : Long.parseLong(value.toString());
+	}
+
+	// Sorted so the same skills in any order share one entry.
+	private static Set<String> normalize(Collection<String> skillNames) {
+		Set<String> skills = new TreeSet<>();
+		for (String skillName : skillNames) {
+			String skill = SearchText.normalize(skillName);
+			if (skill != null) {
+				skills.add(skill);
+			}
+		}
+		return skills;
+	}
+}
@@ -1,8 +1,10 @@
 package com.talentstream.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -13,12 +15,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import com.talentstream.dto.CursorPageDTO;
+import com.talentstream.dto.JobCursor;
 import com.talentstream.dto.JobDTO;
+import com.talentstream.dto.JobKeywordSearchResultDTO;
 import com.talentstream.dto.RecuriterSkillsDTO;
 import com.talentstream.dto.ScreeningAnswerDTO;
 import com.talentstream.entity.Applicant;
@@ -40,6 +48,7 @@ import com.talentstream.repository.PlacementRepository;
 import com.talentstream.repository.RecuriterSkillsRepository;
 import com.talentstream.repository.SavedJobRepository;
 import com.talentstream.repository.ScreeningAnswerRepository;
+import com.talentstream.search.IndexedJob;
 
 
 
@@ -67,11 +76,31 @@ public class JobService {
 
 	@Autowired
 	private PlacementRepository placementRepository;
+
+	@Autowired
+	private JobIndexService jobIndexService;
+
+	@Autowired
+	private AutocompleteService autocompleteService;
+
+	@Autowired
+	private FuzzySkillMatchService fuzzySkillMatchService;
+
+	@Autowired
+	private JobSearchCacheService jobSearchCacheService;
+
+	@Autowired
+	private RecommendationUpdateService recommendationUpdateService;
+
+	@Autowired
+	private SkillDictionaryService skillDictionaryService;
 	
 	 private static  final  Logger logger = LoggerFactory.getLogger(JobService.class);
 	 
 	 
 	 private static final String JOB_NOT_FOUND="Job not found";
+
+	 private static final int FACET_TOP_SKILLS = 10;
 	
 
 	@Autowired
@@ -83,11 +112,17 @@ public class JobService {
 	}
 
 	public List<Job> searchJobs(JobSearchCriteria searchCriteria) {
+		checkRanges(searchCriteria);
 		try {
+			// Answered from the in-memory index once it has been built; the
+			// specification query is only used during startup.
+			if (jobIndexService.isReady()) {
+				return jobRepository.findAllByIdInOrder(jobIndexService.search(searchCriteria));
+			}
 			Page<Job> jobPage = jobRepository.findAll(JobSpecifications.searchJobs(searchCriteria.getSkillName(),
 					searchCriteria.getJobTitle(), searchCriteria.getLocation(), searchCriteria.getIndustryType(),
 					searchCriteria.getEmployeeType(), searchCriteria.getMinimumQualification(),
-					searchCriteria.getSpecialization()), Pageable.unpaged());
+					searchCriteria.getSpecialization()).and(rangesOf(searchCriteria)), Pageable.unpaged());
 
 			return jobPage.getContent();
 		} catch (Exception e) {
@@ -95,6 +130,73 @@ public class JobService {
 		}
 	}
 
+	// Facet counts for the search filters; empty until the search index is built.
+	public Map<String, Map<String, Integer>> getFacetCounts(JobSearchCriteria searchCriteria) {
+		if (!jobIndexService.isReady()) {
+			return Collections.emptyMap();
+		}
+		return jobIndexService.facetCounts(searchCriteria, FACET_TOP_SKILLS);
+	}
+
+	// Cursor-paginated search, newest first.
+	public CursorPageDTO<Job> searchJobsAfter(JobSearchCriteria searchCriteria, JobCursor cursor, int size) {
+		CursorPageDTO.checkSize(size);
+		checkRanges(searchCriteria);
+		try {
+			if (jobIndexService.isReady()) {
+				List<Long> jobIds = jobIndexService.searchAfter(searchCriteria, cursor, size + 1);
+				return CursorPageDTO.fromJobs(jobRepository.findAllByIdInOrder(jobIds), size);
+			}
+			Specification<Job> specification = JobSpecifications.searchJobs(searchCriteria.getSkillName(),
+					searchCriteria.getJobTitle(), searchCriteria.getLocation(), searchCriteria.getIndustryType(),
+					searchCriteria.getEmployeeType(), searchCriteria.getMinimumQualification(),
+					searchCriteria.getSpecialization())
+					.and(rangesOf(searchCriteria))
+					.and(JobSpecifications.createdBefore(cursor.getCreationDate(), cursor.getId()));
+			Pageable limit = PageRequest.of(0, size + 1,
+					Sort.by(Sort.Order.desc("creationDate"), Sort.Order.desc("id")));
+			return CursorPageDTO.fromJobs(jobRepository.findAll(specification, limit).getContent(), size);
+		} catch (Exception e) {
+			throw new CustomException("Error while searching jobs", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private static Specification<Job> rangesOf(JobSearchCriteria searchCriteria) {
+		return JobSpecifications.overlapsRanges(searchCriteria.getMinExperience(), searchCriteria.getMaxExperience(),
+				searchCriteria.getMinSalary(), searchCriteria.getMaxSalary());
+	}
+
+	private static void checkRanges(JobSearchCriteria searchCriteria) {
+		Integer minExperience = searchCriteria.getMinExperience();
+		Integer maxExperience = searchCriteria.getMaxExperience();
+		if ((minExperience != null && minExperience < 0)
+				|| (minExperience != null && maxExperience != null && minExperience > maxExperience)) {
+			throw new CustomException("Invalid experience range", HttpStatus.BAD_REQUEST);
+		}
+		Double minSalary = searchCriteria.getMinSalary();
+		Double maxSalary = searchCriteria.getMaxSalary();
+		if ((minSalary != null && minSalary < 0) || (minSalary != null && maxSalary != null && minSalary > maxSalary)) {
+			throw new CustomException("Invalid salary range", HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	// Ranked keyword search over job title and description.
+	public List<JobKeywordSearchResultDTO> searchJobsByKeywords(String query, int page, int size) {
+		if (query == null || query.isBlank()) {
+			throw new CustomException("Search query is required", HttpStatus.BAD_REQUEST);
+		}
+		if (page < 0) {
+			throw new CustomException("page must not be negative", HttpStatus.BAD_REQUEST);
+		}
+		CursorPageDTO.checkSize(size);
+		try {
+			return jobRepository.searchByKeywords(query.trim(), size, page * size);
+		} catch (Exception e) {
+			logger.error("Error while running keyword search for '{}'", query, e);
+			throw new CustomException("Error while searching jobs", HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
 	public List<Job> getJobsByPromoteState(long applicantId, String promote) {
 		List<SavedJob> savedJobs = savedJobRepository.findByApplicantId(applicantId);
 		logger.info("Saved jobs size: {}", savedJobs.size());
@@ -142,7 +244,7 @@ public class JobService {
 					job.setScreeningQuestions(screeningQuestions);
 				}
 
-				jobRepository.save(job);
+				onJobSaved(jobRepository.save(job));
 				return ResponseEntity.status(HttpStatus.OK).body("Job saved successfully.");
 			} else {
 				throw new CustomException("JobRecruiter with ID " + jobRecruiterId + " not found.",
@@ -219,12 +321,12 @@ public class JobService {
 		return job;
 	}
 
+	// Reuses the shared row of each canonical skill instead of inserting a new
+	// skill row for every job.
 	private Set<RecuriterSkills> convertSkillsDTOToEntity(Set<RecuriterSkillsDTO> skillsRequired) {
-		return skillsRequired.stream().map(skillDTO -> {
-			RecuriterSkills skill = new RecuriterSkills();
-			skill.setSkillName(skillDTO.getSkillName());
-			return skill;
-		}).collect(Collectors.toSet());
+		return skillsRequired.stream()
+				.map(skillDTO -> skillDictionaryService.recruiterSkillFor(skillDTO.getSkillName()))
+				.collect(Collectors.toSet());
 	}
 
 	public void changeJobStatus(Long jobId, String newStatus) {
@@ -247,7 +349,7 @@ public class JobService {
 
 			savedJobRepository.deleteAll(savedJobs);
 
-			jobRepository.save(job);
+			onJobSaved(jobRepository.save(job));
 		} catch (CustomException ce) {
 			throw ce;
 		} catch (Exception e) {
@@ -310,16 +412,9 @@ public class JobService {
 		
 			existingJob.setDescription(jobDTO.getDescription());
 
-			Set<RecuriterSkills> updatedSkills = new HashSet<>();
-			for (RecuriterSkillsDTO skillDTO : jobDTO.getSkillsRequired()) {
-				RecuriterSkills skill = new RecuriterSkills();
-				skill.setSkillName(skillDTO.getSkillName());
-				
-				updatedSkills.add(skill);
-			}
-			existingJob.setSkillsRequired(updatedSkills);
+			existingJob.setSkillsRequired(convertSkillsDTOToEntity(jobDTO.getSkillsRequired()));
 
-			jobRepository.save(existingJob);
+			onJobSaved(jobRepository.save(existingJob));
 
 			return ResponseEntity.ok("Job updated successfully.");
 		} else {
@@ -349,12 +444,10 @@ public class JobService {
 		clonedJob.setMinimumQualification(existingJob.getMinimumQualification());
 		clonedJob.setSpecialization(existingJob.getSpecialization());
 		// Update skillsRequired - Assuming jobDTO has a similar structure as Job
+		// The clone shares the original's canonical skill rows.
 		Set<RecuriterSkills> updatedSkills = new HashSet<>();
-		for (RecuriterSkills skillDTO : existingJob.getSkillsRequired()) {
-			RecuriterSkills skill = new RecuriterSkills();
-			skill.setSkillName(skillDTO.getSkillName());
-			// skill.setMinimumExperience(skillDTO.getMinimumExperience());
-			updatedSkills.add(skill);
+		for (RecuriterSkills skill : existingJob.getSkillsRequired()) {
+			updatedSkills.add(skillDictionaryService.recruiterSkillFor(skill.getSkillName()));
 		}
 		clonedJob.setSkillsRequired(updatedSkills);
 		clonedJob.setDescription(existingJob.getDescription());
@@ -362,7 +455,7 @@ public class JobService {
 		// Save the cloned job to the database
 		logger.info("About to saved");
 		try {
-			jobRepository.save(clonedJob);
+			onJobSaved(jobRepository.save(clonedJob));
 		} catch (Exception e) {
 			logger.error(e.getMessage());
 		}
@@ -405,7 +498,37 @@ public class JobService {
 		jobs.add(job);
 		recruiter.setJobs(jobs);
 		job.setJobRecruiter(recruiter);
-		return jobRepository.save(job);
+		if (job.getSkillsRequired() != null) {
+			job.setSkillsRequired(job.getSkillsRequired().stream()
+					.map(skill -> skillDictionaryService.recruiterSkillFor(skill.getSkillName()))
+					.collect(Collectors.toSet()));
+		}
+		Job savedJob = jobRepository.save(job);
+		onJobSaved(savedJob);
+		return savedJob;
+	}
+
+	// Keeps the search structures, caches and recommendations in step with a job
+	// write. Code saving a Job outside this service must call it too.
+	public void onJobSaved(Job job) {
+		IndexedJob previous = jobIndexService.index(job);
+		autocompleteService.onJobChanged(previous, job);
+		boolean vocabularyChanged = fuzzySkillMatchService.onJobChanged(job);
+		jobSearchCacheService.onJobChanged(previous, job, vocabularyChanged);
+		recommendationUpdateService.onJobChanged(previous, activeSnapshotOf(job));
+	}
+
+	// Taken on the request thread, where the job's skills can still be loaded.
+	private IndexedJob activeSnapshotOf(Job job) {
+		if (job.getId() == null || "inactive".equalsIgnoreCase(job.getStatus())) {
+			return null;
+		}
+		try {
+			return IndexedJob.from(job);
+		} catch (Exception e) {
+			logger.warn("Could not snapshot job {} for recommendation updates", job.getId(), e);
+			return null;
+		}
 	}
 
 }
@@ -0,0 +1,167 @@
+package com.talentstream.service;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.entity.Location;
+import com.talentstream.repository.LocationRepository;
+import com.talentstream.search.GeoGrid;
+import com.talentstream.search.SearchText;
+
+/**
+ * Widens preferred job locations to the places a candidate would actually
+ * accept: everything in the same district plus every known city within a
+ * radius, so "Hyderabad" also matches jobs posted in "Secunderabad". A state
+ * or district name matches all of its cities.
+ *
+ * The dictionary is seeded from locations.csv into the location table and
+ * held in memory with a grid index for the radius lookups.
+ */
+@Service
+public class LocationProximityService {
+
+	@Autowired
+	private LocationRepository locationRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(LocationProximityService.class);
+
+	private static final String SEED_FILE = "locations.csv";
+
+	// Never a real location; keeps "IN :preferredLocations" valid SQL.
+	private static final Set<String> NO_LOCATIONS = Set.of("");
+
+	// About 55 km, wider than the usual radius so lookups touch few cells.
+	private static final double GRID_CELL_DEGREES = 0.5;
+
+	@Value("${talentstream.locations.radius-km:30}")
+	private double radiusKm;
+
+	private volatile Dictionary dictionary = new Dictionary(new ArrayList<>());
+
+	// Immutable view of the location table: cities by name and by region, plus
+	// the proximity grid (grid ids are positions in the list).
+	private static final class Dictionary {
+		private final List<Location> locations;
+		private final Map<String, List<Integer>> byCity = new HashMap<>();
+		private final Map<String, List<Integer>> byRegion = new HashMap<>();
+		private final GeoGrid grid = new GeoGrid(GRID_CELL_DEGREES);
+
+		private Dictionary(List<Location> locations) {
+			this.locations = locations;
+			for (Location location : locations) {
+				int id = grid.add(location.getLatitude(), location.getLongitude());
+				byCity.computeIfAbsent(location.getNormalizedCity(), k -> new ArrayList<>()).add(id);
+				addRegion(location.getDistrict(), id);
+				addRegion(location.getState(), id);
+			}
+		}
+
+		private void addRegion(String region, int id) {
+			String key = SearchText.normalize(region);
+			if (key != null) {
+				byRegion.computeIfAbsent(key, k -> new ArrayList<>()).add(id);
+			}
+		}
+	}
+
+	@Scheduled(initialDelay = 0, fixedDelayString = "${talentstream.locations.reload-interval-ms:3600000}")
+	public void reload() {
+		try {
+			List<Location> locations = locationRepository.findAll();
+			int seeded = seedMissing(locations);
+			if (seeded > 0) {
+				locations = locationRepository.findAll();
+			}
+			dictionary = new Dictionary(locations);
+			logger.info("Location dictionary loaded with {} locations ({} seeded)", locations.size(), seeded);
+		} catch (Exception e) {
+			logger.error("Failed to load location dictionary", e);
+		}
+	}
+
+	// Inserts the seed rows whose city is not in the table yet; rows edited or
+	// added in the database are left alone.
+	private int seedMissing(List<Location> existing) throws Exception {
+		Set<String> known = new HashSet<>();
+		for (Location location : existing) {
+			known.add(location.getNormalizedCity());
+		}
+		List<Location> missing = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(new ClassPathResource(SEED_FILE).getInputStream(), StandardCharsets.UTF_8))) {
+			String line = reader.readLine(); // header
+			while ((line = reader.readLine()) != null) {
+				String[] columns = line.split(",");
+				String normalizedCity = columns.length == 5 ? SearchText.normalize(columns[0]) : null;
+				if (normalizedCity == null || !known.add(normalizedCity)) {
+					continue;
+				}
+				Location location = new Location();
+				location.setCity(columns[0].trim());
+				location.setNormalizedCity(normalizedCity);
+				location.setDistrict(columns[1].trim());
+				location.setState(columns[2].trim());
+				location.setLatitude(Double.parseDouble(columns[3].trim()));
+				location.setLongitude(Double.parseDouble(columns[4].trim()));
+				missing.add(location);
+			}
+		}
+		locationRepository.saveAll(missing);
+		return missing.size();
+	}
+
+	// Normalized location names matching any of the preferred locations: the
+	// names themselves, cities of the same district, cities within the radius
+	// and, for a district or state, all of its cities. Unknown names are kept
+	// as typed (normalized). Never empty, so it can be bound to an IN clause.
+	public Set<String> expandPreferredLocations(Collection<String> preferredLocations) {
+		Set<String> expanded = new LinkedHashSet<>();
+		if (preferredLocations == null) {
+			return NO_LOCATIONS;
+		}
+		Dictionary current = dictionary;
+		for (String preferred : preferredLocations) {
+			String name = SearchText.normalize(preferred);
+			if (name == null) {
+				continue;
+			}
+			expanded.add(name);
+			// "Hyderabad, Telangana" is looked up as "hyderabad".
+			String key = current.byCity.containsKey(name) || current.byRegion.containsKey(name) ? name
+					: name.split(",")[0].trim();
+			for (Integer id : current.byCity.getOrDefault(key, new ArrayList<>())) {
+				Location city = current.locations.get(id);
+				addCities(expanded, current, current.grid.within(city.getLatitude(), city.getLongitude(), radiusKm));
+				String district = SearchText.normalize(city.getDistrict());
+				if (district != null) {
+					addCities(expanded, current, current.byRegion.getOrDefault(district, new ArrayList<>()));
+				}
+			}
+			addCities(expanded, current, current.byRegion.getOrDefault(key, new ArrayList<>()));
+		}
+		return expanded.isEmpty() ? NO_LOCATIONS : expanded;
+	}
+
+	private static void addCities(Set<String> expanded, Dictionary dictionary, List<Integer> ids) {
+		for (Integer id : ids) {
+			expanded.add(dictionary.locations.get(id).getNormalizedCity());
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package com.talentstream.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.entity.ApplyJob;
+import com.talentstream.entity.NotificationOutbox;
+import com.talentstream.repository.NotificationOutboxRepository;
+
+/**
+ * Transactional outbox for application notifications. Callers enqueue inside
+ * the transaction that changes the application, so a notification exists if
+ * and only if the change committed. A scheduled dispatcher claims due rows in
+ * batches (FOR UPDATE SKIP LOCKED, so several instances can run it), creates
+ * the applicant alert and sends the email outside any transaction, and
+ * retries failures with exponential backoff until maxAttempts.
+ */
+@Service
+public class NotificationOutboxService {
+
+	@Autowired
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Autowired
+	private ApplyJobEventService applyJobEventService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxService.class);
+
+	// Claimed rows are pushed this far into the future, so another dispatcher
+	// does not pick them up while this one is sending.
+	private static final int LEASE_SECONDS = 300;
+
+	private static final String CLAIM = "UPDATE notification_outbox SET next_attempt_at = ? WHERE id IN ("
+			+ "SELECT id FROM notification_outbox WHERE state = 'PENDING' AND next_attempt_at <= ? "
+			+ "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING id";
+
+	private static final String INSERT = "INSERT INTO notification_outbox (apply_job_id, applicant_id, recipient_email, "
+			+ "company_name, job_title, applicant_status, state, alert_created, attempts, next_attempt_at, created_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+	@Value("${talentstream.notifications.outbox.batch-size:50}")
+	private int batchSize;
+
+	@Value("${talentstream.notifications.outbox.max-attempts:8}")
+	private int maxAttempts;
+
+	@Value("${talentstream.notifications.outbox.backoff-base-seconds:30}")
+	private long backoffBaseSeconds;
+
+	// Must run inside the caller's transaction.
+	public void enqueue(ApplyJob applyJob, String applicantStatus, String companyName, String jobTitle) {
+		LocalDateTime now = LocalDateTime.now();
+		NotificationOutbox notification = new NotificationOutbox();
+		notification.setApplyJobId(applyJob.getApplyjobid());
+		notification.setApplicantId(applyJob.getApplicant().getId());
+		notification.setRecipientEmail(applyJob.getApplicant().getEmail());
+		notification.setApplicantStatus(applicantStatus);
+		notification.setCompanyName(companyName);
+		notification.setJobTitle(jobTitle);
+		notification.setCreatedAt(now);
+		notification.setNextAttemptAt(now);
+		notificationOutboxRepository.save(notification);
+	}
+
+	// Batched form of enqueue for bulk status changes. Must run inside the
+	// caller's transaction.
+	public void enqueueAll(List<NotificationOutbox> notifications) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(notifications.size());
+		for (NotificationOutbox notification : notifications) {
+			rows.add(new Object[] { notification.getApplyJobId(), notification.getApplicantId(),
+					notification.getRecipientEmail(), notification.getCompanyName(), notification.getJobTitle(),
+					notification.getApplicantStatus(), NotificationOutbox.PENDING, notification.isAlertCreated(), now,
+					now });
+		}
+		jdbcTemplate.batchUpdate(INSERT, rows);
+	}
+
+	@Scheduled(fixedDelayString = "${talentstream.notifications.outbox.poll-interval-ms:2000}")
+	public void dispatch() {
+		try {
+			List<Long> claimed;
+			do {
+				LocalDateTime now = LocalDateTime.now();
+				claimed = jdbcTemplate.queryForList(CLAIM, Long.class,
+						Timestamp.valueOf(now.plusSeconds(LEASE_SECONDS)), Timestamp.valueOf(now), batchSize);
+				for (NotificationOutbox notification : notificationOutboxRepository.findAllById(claimed)) {
+					deliver(notification);
+				}
+			} while (claimed.size() == batchSize);
+		} catch (Exception e) {
+			logger.error("Failed to dispatch notification outbox", e);
+		}
+	}
+
+	private void deliver(NotificationOutbox notification) {
+		notification.setAttempts(notification.getAttempts() + 1);
+		try {
+			if (!notification.isAlertCreated()) {
+				applyJobEventService.createAlert(notification.getApplyJobId(), notification.getApplicantId(),
+						notification.getApplicantStatus(), notification.getCompanyName(), notification.getJobTitle());
+				notification.setAlertCreated(true);
+			}
+			applyJobEventService.sendEmailToApplicant(notification.getRecipientEmail(), notification.getCompanyName(),
+					notification.getApplicantStatus(), notification.getJobTitle());
+			notification.setState(NotificationOutbox.SENT);
+			notification.setSentAt(LocalDateTime.now());
+			notification.setLastError(null);
+		} catch (Exception e) {
+			String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+			notification.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+			if (notification.getAttempts() >= maxAttempts) {
+				notification.setState(NotificationOutbox.FAILED);
+				logger.error("Giving up on notification {} after {} attempts", notification.getId(),
+						notification.getAttempts(), e);
+			} else {
+				notification.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds(notification.getAttempts())));
+				logger.warn("Notification {} failed (attempt {}), retrying later: {}", notification.getId(),
+						notification.getAttempts(), error);
+			}
+		}
+		notificationOutboxRepository.save(notification);
+	}
+
+	// base, 2 x base, 4 x base, ... capped at one day.
+	private long backoffSeconds(int attempts) {
+		return Math.min(backoffBaseSeconds << Math.min(attempts - 1, 20), 86400);
+	}
+}
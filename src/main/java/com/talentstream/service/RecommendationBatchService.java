@@ -0,0 +1,147 @@
+package com.talentstream.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.dto.RecommendationBatchStatusDTO;
+import com.talentstream.repository.ApplicantProfileRepository;
+
+/**
+ * Recomputes the recommendation snapshots of every applicant, on a schedule
+ * or on demand (after a change to the matching rules). Profiles are read in
+ * keyset batches by one driver task and each batch is scored against the
+ * in-memory job index on a dedicated {@link ForkJoinPool}, so batches are
+ * loaded, scored and stored in parallel. Only one run is active at a time.
+ */
+@Service
+public class RecommendationBatchService {
+
+	@Autowired
+	private RecommendationSnapshotService recommendationSnapshotService;
+
+	@Autowired
+	private JobIndexService jobIndexService;
+
+	@Autowired
+	private ApplicantProfileRepository applicantProfileRepository;
+
+	private static final Logger logger = LoggerFactory.getLogger(RecommendationBatchService.class);
+
+	private final ForkJoinPool pool;
+	private final int maxBatchesInFlight;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final AtomicLong processed = new AtomicLong();
+	private volatile String trigger;
+	private volatile long total;
+	private volatile long startedAtMs;
+	private volatile LocalDateTime startedAt;
+	private volatile LocalDateTime finishedAt;
+	private volatile long elapsedMs;
+	private volatile String lastError;
+
+	// Each batch holds a database connection while loading and storing, so the
+	// parallelism should stay below the connection pool size.
+	public RecommendationBatchService(@Value("${talentstream.recommendations.batch.parallelism:4}") int parallelism) {
+		this.pool = new ForkJoinPool(parallelism);
+		this.maxBatchesInFlight = parallelism * 2;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdownNow();
+	}
+
+	@Scheduled(initialDelayString = "${talentstream.recommendations.initial-delay-ms:60000}",
+			fixedDelayString = "${talentstream.recommendations.refresh-interval-ms:1800000}")
+	public void scheduledRefresh() {
+		start("scheduled");
+	}
+
+	// Starts a run in the background; false when one is already running or the
+	// job index is not built yet.
+	public boolean start(String trigger) {
+		if (!jobIndexService.isReady()) {
+			logger.info("Job search index not built yet, recommendation recompute skipped");
+			return false;
+		}
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		this.trigger = trigger;
+		processed.set(0);
+		lastError = null;
+		finishedAt = null;
+		startedAtMs = System.currentTimeMillis();
+		startedAt = LocalDateTime.now();
+		try {
+			pool.execute(this::run);
+		} catch (RuntimeException e) {
+			running.set(false);
+			throw e;
+		}
+		return true;
+	}
+
+	public RecommendationBatchStatusDTO status() {
+		RecommendationBatchStatusDTO status = new RecommendationBatchStatusDTO();
+		boolean active = running.get();
+		long elapsed = active ? System.currentTimeMillis() - startedAtMs : elapsedMs;
+		status.setRunning(active);
+		status.setTrigger(trigger);
+		status.setStartedAt(startedAt);
+		status.setFinishedAt(finishedAt);
+		status.setTotalApplicants(total);
+		status.setProcessedApplicants(processed.get());
+		status.setElapsedMs(elapsed);
+		status.setApplicantsPerSecond(elapsed > 0 ? processed.get() * 1000.0 / elapsed : 0);
+		status.setLastError(lastError);
+		return status;
+	}
+
+	// Runs on a pool thread: forks one task per profile batch and keeps at most
+	// maxBatchesInFlight of them outstanding, so profiles are not read faster
+	// than they are scored.
+	private void run() {
+		Deque<ForkJoinTask<Integer>> inFlight = new ArrayDeque<>();
+		try {
+			total = applicantProfileRepository.count();
+			recommendationSnapshotService.forEachProfileBatch(profiles -> {
+				inFlight.addLast(ForkJoinTask.adapt(() -> {
+					int refreshed = recommendationSnapshotService.refreshBatch(profiles);
+					processed.addAndGet(refreshed);
+					return refreshed;
+				}).fork());
+				while (inFlight.size() >= maxBatchesInFlight) {
+					inFlight.removeFirst().join();
+				}
+			});
+			while (!inFlight.isEmpty()) {
+				inFlight.removeFirst().join();
+			}
+		} catch (Exception e) {
+			lastError = e.getMessage();
+			logger.error("Failed to recompute recommendations", e);
+		} finally {
+			elapsedMs = System.currentTimeMillis() - startedAtMs;
+			finishedAt = LocalDateTime.now();
+			running.set(false);
+			logger.info("Recommendations recomputed ({}) for {} of {} applicants in {} ms", trigger, processed.get(),
+					total, elapsedMs);
+		}
+	}
+}
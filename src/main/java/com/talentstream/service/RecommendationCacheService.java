@@ -0,0 +1,79 @@
+package com.talentstream.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.dto.JobDTO;
+
+/**
+ * Redis cache of recommended job pages. Each applicant has one hash with one
+ * field per page and size, so different pages never overwrite each other and
+ * invalidating an applicant drops all of their pages with a single delete.
+ */
+@Service
+public class RecommendationCacheService {
+
+	@Autowired
+	private RedisTemplate<String, Object> redisTemplate;
+
+	private static final Logger logger = LoggerFactory.getLogger(RecommendationCacheService.class);
+
+	private static final String PAGES_PREFIX = "recommendedJobs:";
+
+	@Value("${talentstream.recommendations.cache.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	// Cached page, or the loader's result (stored for the next call). Redis
+	// failures fall back to the loader.
+	@SuppressWarnings("unchecked")
+	public List<JobDTO> getOrLoad(long applicantId, int page, int size, Supplier<List<JobDTO>> loader) {
+		String key = PAGES_PREFIX + applicantId;
+		String field = page + ":" + size;
+		try {
+			Object cached = redisTemplate.opsForHash().get(key, field);
+			if (cached instanceof List) {
+				return (List<JobDTO>) cached;
+			}
+		} catch (Exception e) {
+			logger.warn("Recommendation cache unavailable, loading without it", e);
+			return loader.get();
+		}
+		List<JobDTO> jobs = loader.get();
+		try {
+			redisTemplate.opsForHash().put(key, field, jobs);
+			redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+		} catch (Exception e) {
+			logger.warn("Could not store recommendation page {} of applicant {}", field, applicantId, e);
+		}
+		return jobs;
+	}
+
+	public boolean isCached(long applicantId) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(PAGES_PREFIX + applicantId));
+	}
+
+	public void evict(Collection<Long> applicantIds) {
+		List<String> keys = new ArrayList<>(applicantIds.size());
+		for (Long applicantId : applicantIds) {
+			keys.add(PAGES_PREFIX + applicantId);
+		}
+		if (keys.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.delete(keys);
+		} catch (Exception e) {
+			logger.warn("Could not evict recommendation pages of {} applicants", keys.size(), e);
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.talentstream.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.entity.ApplicantRecommendation;
+import com.talentstream.repository.ApplicantProfileRepository;
+import com.talentstream.repository.ApplicantRecommendationRepository;
+import com.talentstream.repository.ApplyJobRepository;
+import com.talentstream.repository.SavedJobRepository;
+import com.talentstream.search.ApplicantCriteria;
+
+/**
+ * Materializes the ranked top-N recommended job ids of every applicant into
+ * applicant_recommendation, so the recommendation endpoint reads one row
+ * instead of running the matching query. Profiles are processed in batches:
+ * their skills, preferred locations, applied and saved jobs are loaded with
+ * one query each per batch and the ranking itself runs against the in-memory
+ * job index. Full refreshes are driven by {@link RecommendationBatchService}.
+ */
+@Service
+public class RecommendationSnapshotService {
+
+	@Autowired
+	private ApplicantProfileRepository applicantProfileRepository;
+
+	@Autowired
+	private ApplyJobRepository applyJobRepository;
+
+	@Autowired
+	private SavedJobRepository savedJobRepository;
+
+	@Autowired
+	private ApplicantRecommendationRepository applicantRecommendationRepository;
+
+	@Autowired
+	private JobIndexService jobIndexService;
+
+	@Autowired
+	private FuzzySkillMatchService fuzzySkillMatchService;
+
+	@Autowired
+	private LocationProximityService locationProximityService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private static final Logger logger = LoggerFactory.getLogger(RecommendationSnapshotService.class);
+
+	private static final int BATCH_SIZE = 500;
+
+	// FinRecommendedJobService counts the snapshot, so the count goes with it.
+	private static final String COUNT_CACHE = "recommendedJobCount";
+
+	private static final String UPSERT = "INSERT INTO applicant_recommendation (applicant_id, job_ids, computed_at) "
+			+ "VALUES (?, ?, ?) ON CONFLICT (applicant_id) DO UPDATE "
+			+ "SET job_ids = EXCLUDED.job_ids, computed_at = EXCLUDED.computed_at";
+
+	@Value("${talentstream.recommendations.top-n:200}")
+	private int topN;
+
+	// Computes and stores the snapshots of one batch of profile rows; the unit
+	// of work of RecommendationBatchService.
+	public int refreshBatch(List<Object[]> profiles) {
+		return store(compute(profiles));
+	}
+
+	// Recomputes the snapshots of the given applicants only.
+	public int refreshApplicants(Collection<Long> applicantIds) {
+		if (!jobIndexService.isReady()) {
+			return 0;
+		}
+		List<Long> ids = new ArrayList<>(applicantIds);
+		int refreshed = 0;
+		for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+			List<Object[]> profiles = applicantProfileRepository.findRecommendationProfileRowsByApplicantIds(
+					ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+			if (!profiles.isEmpty()) {
+				refreshed += store(compute(profiles));
+			}
+		}
+		return refreshed;
+	}
+
+	// Walks all applicant profiles as (applicant id, experience, specialization,
+	// qualification) rows, BATCH_SIZE at a time in applicant id order.
+	public void forEachProfileBatch(Consumer<List<Object[]>> batchConsumer) {
+		long afterApplicantId = 0;
+		List<Object[]> profiles;
+		while (!(profiles = applicantProfileRepository.findRecommendationProfileRows(afterApplicantId,
+				PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+			batchConsumer.accept(profiles);
+			afterApplicantId = (Long) profiles.get(profiles.size() - 1)[0];
+		}
+	}
+
+	// Stored ranked job ids of the applicant, computed now if there is no
+	// snapshot yet. Empty while the job index is still being built or when the
+	// user has no applicant profile, in which case callers fall back to the
+	// matching query (which reports the missing profile).
+	public Optional<List<Long>> recommendedJobIds(long applicantId) {
+		Optional<ApplicantRecommendation> snapshot = applicantRecommendationRepository.findById(applicantId);
+		if (snapshot.isPresent()) {
+			return Optional.of(parse(snapshot.get().getJobIds()));
+		}
+		if (!jobIndexService.isReady()) {
+			return Optional.empty();
+		}
+		List<Object[]> profile = applicantProfileRepository
+				.findRecommendationProfileRowsByApplicantIds(List.of(applicantId));
+		if (profile.isEmpty()) {
+			return Optional.empty();
+		}
+		Map<Long, List<Long>> computed = compute(profile);
+		store(computed);
+		return Optional.of(computed.get(applicantId));
+	}
+
+	// Drops the applicant's snapshot (profile changed); the next read recomputes it.
+	public void invalidate(long applicantId) {
+		try {
+			if (applicantRecommendationRepository.existsById(applicantId)) {
+				applicantRecommendationRepository.deleteById(applicantId);
+			}
+		} catch (Exception e) {
+			logger.warn("Could not invalidate recommendations of applicant {}", applicantId, e);
+		}
+		evictCounts(List.of(applicantId));
+	}
+
+	// Matching criteria for a batch of (applicant id, experience, specialization,
+	// qualification) rows, with skills and locations loaded in one query each.
+	public List<ApplicantCriteria> criteriaOf(List<Object[]> profiles) {
+		List<Long> applicantIds = profiles.stream().map(row -> (Long) row[0]).collect(Collectors.toList());
+		Map<Long, Set<String>> skills = group(applicantProfileRepository.findSkillRowsByApplicantIds(applicantIds));
+		Map<Long, Set<String>> locations = group(
+				applicantProfileRepository.findPreferredLocationRowsByApplicantIds(applicantIds));
+		List<ApplicantCriteria> criteria = new ArrayList<>(profiles.size());
+		for (Object[] profile : profiles) {
+			Long applicantId = (Long) profile[0];
+			criteria.add(new ApplicantCriteria(applicantId,
+					fuzzySkillMatchService.expandAll(skills.getOrDefault(applicantId, new HashSet<>())),
+					locationProximityService.expandPreferredLocations(locations.get(applicantId)),
+					parseExperience((String) profile[1]), (String) profile[2], (String) profile[3]));
+		}
+		return criteria;
+	}
+
+	// Ranked job ids per applicant of the batch.
+	private Map<Long, List<Long>> compute(List<Object[]> profiles) {
+		List<ApplicantCriteria> criteria = criteriaOf(profiles);
+		List<Long> applicantIds = criteria.stream().map(ApplicantCriteria::getApplicantId)
+				.collect(Collectors.toList());
+		Map<Long, Set<Long>> excluded = new HashMap<>();
+		for (List<Object[]> rows : List.of(applyJobRepository.findJobIdRowsByApplicantIds(applicantIds),
+				savedJobRepository.findJobIdRowsByApplicantIds(applicantIds))) {
+			for (Object[] row : rows) {
+				excluded.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+			}
+		}
+		Map<Long, List<Long>> recommendations = new HashMap<>();
+		for (ApplicantCriteria applicant : criteria) {
+			recommendations.put(applicant.getApplicantId(), jobIndexService.recommend(applicant,
+					excluded.getOrDefault(applicant.getApplicantId(), new HashSet<>()), topN));
+		}
+		return recommendations;
+	}
+
+	private int store(Map<Long, List<Long>> recommendations) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(recommendations.size());
+		for (Map.Entry<Long, List<Long>> entry : recommendations.entrySet()) {
+			String jobIds = entry.getValue().stream().map(String::valueOf).collect(Collectors.joining(","));
+			rows.add(new Object[] { entry.getKey(), jobIds, now });
+		}
+		jdbcTemplate.batchUpdate(UPSERT, rows);
+		evictCounts(recommendations.keySet());
+		return rows.size();
+	}
+
+	private void evictCounts(Collection<Long> applicantIds) {
+		Cache cache = cacheManager.getCache(COUNT_CACHE);
+		if (cache == null) {
+			return;
+		}
+		for (Long applicantId : applicantIds) {
+			try {
+				cache.evict(applicantId);
+			} catch (Exception e) {
+				logger.warn("Could not evict {} for applicant {}", COUNT_CACHE, applicantId, e);
+			}
+		}
+	}
+
+	private static Map<Long, Set<String>> group(List<Object[]> rows) {
+		Map<Long, Set<String>> grouped = new HashMap<>();
+		for (Object[] row : rows) {
+			grouped.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+		}
+		return grouped;
+	}
+
+	private static List<Long> parse(String jobIds) {
+		List<Long> ids = new ArrayList<>();
+		if (jobIds != null && !jobIds.isEmpty()) {
+			Arrays.stream(jobIds.split(",")).map(Long::valueOf).forEach(ids::add);
+		}
+		return ids;
+	}
+
+	private static Integer parseExperience(String experience) {
+		try {
+			return experience == null ? null : Integer.valueOf(experience.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.talentstream.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.search.IndexedJob;
+
+/**
+ * Keeps recommendations current after writes without touching unrelated
+ * applicants: a job write refreshes the snapshots and evicts the cached
+ * recommendations of only the applicants the job matched before or matches
+ * after the write; a profile write only affects that applicant.
+ */
+@Service
+public class RecommendationUpdateService {
+
+	@Autowired
+	private ApplicantIndexService applicantIndexService;
+
+	@Autowired
+	private RecommendationSnapshotService recommendationSnapshotService;
+
+	@Autowired
+	private RecommendationCacheService recommendationCacheService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private static final Logger logger = LoggerFactory.getLogger(RecommendationUpdateService.class);
+
+	// Per-applicant caches of FinRecommendedJobService keyed by applicant id; the
+	// recommendation pages themselves live in RecommendationCacheService and the
+	// recommended job count is evicted with the snapshot it counts.
+	private static final List<String> APPLICANT_CACHES = List.of("jobsMatchingProfile");
+
+	// previous is the job as last indexed (null for a new job), current the job
+	// after the write (null once it is inactive).
+	@Async("recommendationExecutor")
+	public void onJobChanged(IndexedJob previous, IndexedJob current) {
+		if (previous == null && current == null) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		try {
+			Set<Long> affected = applicantIndexService.applicantsMatching(Arrays.asList(previous, current));
+			int refreshed = recommendationSnapshotService.refreshApplicants(affected);
+			evict(affected);
+			logger.debug("Job {} refreshed recommendations of {} applicants in {} ms",
+					(current != null ? current : previous).getId(), refreshed, System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			logger.error("Failed to update recommendations after a job change", e);
+		}
+	}
+
+	// Drops the applicant's snapshot and cached recommendations right away (the
+	// next read recomputes them) and reindexes the profile in the background.
+	public void onProfileChanged(long applicantId) {
+		recommendationSnapshotService.invalidate(applicantId);
+		evict(List.of(applicantId));
+		applicantIndexService.reindex(applicantId);
+	}
+
+	private void evict(Collection<Long> applicantIds) {
+		recommendationCacheService.evict(applicantIds);
+		for (String cacheName : APPLICANT_CACHES) {
+			Cache cache = cacheManager.getCache(cacheName);
+			if (cache == null) {
+				continue;
+			}
+			for (Long applicantId : applicantIds) {
+				try {
+					cache.evict(applicantId);
+				} catch (Exception e) {
+					logger.warn("Could not evict {} for applicant {}", cacheName, applicantId, e);
+				}
+			}
+		}
+	}
+}
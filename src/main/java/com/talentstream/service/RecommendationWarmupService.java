@@ -0,0 +1,103 @@
+package com.talentstream.service;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.exception.CustomException;
+
+/**
+ * Fills the first recommendation pages of applicants who logged in recently,
+ * so their dashboard loads from the cache. Logins are kept in a Redis sorted
+ * set scored by time; pages are computed right after a login and again
+ * whenever a job or profile write has evicted them while the applicant is
+ * still considered active.
+ */
+@Service
+public class RecommendationWarmupService {
+
+	@Autowired
+	private FinRecommendedJobService finRecommendedJobService;
+
+	@Autowired
+	private RecommendationCacheService recommendationCacheService;
+
+	@Autowired
+	private RedisTemplate<String, Object> redisTemplate;
+
+	private static final Logger logger = LoggerFactory.getLogger(RecommendationWarmupService.class);
+
+	private static final String RECENT_LOGINS_KEY = "recommendedJobs:recentLogins";
+
+	@Value("${talentstream.recommendations.warm.pages:3}")
+	private int pages;
+
+	@Value("${talentstream.recommendations.warm.page-size:10}")
+	private int pageSize;
+
+	@Value("${talentstream.recommendations.warm.recent-login-minutes:30}")
+	private long recentLoginMinutes;
+
+	@Async("recommendationExecutor")
+	public void onLogin(long userId) {
+		try {
+			redisTemplate.opsForZSet().add(RECENT_LOGINS_KEY, String.valueOf(userId), System.currentTimeMillis());
+		} catch (Exception e) {
+			logger.warn("Could not record login of user {}", userId, e);
+		}
+		warm(userId);
+	}
+
+	// Warms applicants whose pages were evicted since they logged in, and
+	// forgets logins older than the window.
+	@Scheduled(fixedDelayString = "${talentstream.recommendations.warm.interval-ms:60000}")
+	public void rewarmRecentLogins() {
+		try {
+			long since = System.currentTimeMillis() - Duration.ofMinutes(recentLoginMinutes).toMillis();
+			redisTemplate.opsForZSet().removeRangeByScore(RECENT_LOGINS_KEY, 0, since);
+			Set<Object> recent = redisTemplate.opsForZSet().rangeByScore(RECENT_LOGINS_KEY, since, Double.MAX_VALUE);
+			if (recent == null) {
+				return;
+			}
+			int warmed = 0;
+			for (Object member : recent) {
+				long applicantId = Long.parseLong(member.toString());
+				if (!recommendationCacheService.isCached(applicantId) && warm(applicantId)) {
+					warmed++;
+				}
+			}
+			if (warmed > 0) {
+				logger.debug("Warmed recommendations of {} recently active applicants", warmed);
+			}
+		} catch (Exception e) {
+			logger.error("Failed to warm recommendations of recent logins", e);
+		}
+	}
+
+	// False when the pages could not be computed. Users without an applicant
+	// profile (for example recruiters) are dropped from the recent logins.
+	private boolean warm(long applicantId) {
+		try {
+			for (int page = 0; page < pages; page++) {
+				if (finRecommendedJobService.recommendJobsForApplicant(applicantId, page, pageSize).size() < pageSize) {
+					break;
+				}
+			}
+			return true;
+		} catch (CustomException e) {
+			redisTemplate.opsForZSet().remove(RECENT_LOGINS_KEY, String.valueOf(applicantId));
+			return false;
+		} catch (Exception e) {
+			logger.warn("Could not warm recommendations of applicant {}", applicantId, e);
+			return false;
+		}
+	}
+}
@@ -1,12 +1,20 @@
 package com.talentstream.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.talentstream.dto.CursorPageDTO;
+import com.talentstream.dto.JobIdPageDTO;
+import com.talentstream.dto.JobCursor;
 import com.talentstream.entity.Job;
 import com.talentstream.exception.CustomException;
 import com.talentstream.repository.ApplicantRepository;
@@ -19,27 +27,65 @@ public class SearchForaJobService {
  
     @Autowired
     private JobRepository jobRepository;
+
+    @Autowired
+    private JobIndexService jobIndexService;
+
+    @Autowired
+    private FuzzySkillMatchService fuzzySkillMatchService;
+
+    @Autowired
+    private SkillDictionaryService skillDictionaryService;
  
-    @Cacheable(value = "jobsCache", key = "#applicantId + '-' + #skillName + '-' + #pageable.pageNumber")
+    @Autowired
+    private JobSearchCacheService jobSearchCacheService;
 
+    // Results do not depend on the applicant, so pages of job ids are cached
+    // once per normalized skill set and shared by everyone searching it.
     public Page<Job> searchJobsBySkillAndApplicant(long applicantId, String skillName, Pageable pageable) {
     	 try {
-    
-    		
-    		 //place of applicant previously checking in applicant profile
-    		
-//             Optional<ApplicantProfile> applicantOptional = applicantProfileRepository.findById(applicantId);
- 
-    		// Optional<Applicant> applicantOptional = applicantRepository.findById(applicantId);
-    		
     		 if (!applicantRepository.existsById(applicantId)) {
      	        throw new CustomException("Applicant not found", HttpStatus.NOT_FOUND);
      	    }
  
-     	    return jobRepository.findJobsBySkillName(skillName, pageable);
+     	    // Tolerates typos: "Javscript" also finds jobs asking for "JavaScript".
+     	    Set<String> skillNames = fuzzySkillMatchService.expand(skillName);
+     	    JobIdPageDTO page = jobSearchCacheService.getOrLoad(skillNames, pageable,
+     	            () -> searchJobIdsBySkills(skillNames, pageable));
+     	    return new PageImpl<>(jobRepository.findAllByIdInOrder(page.getJobIds()), pageable, page.getTotal());
+         } catch (CustomException e) {
+             throw e;
          } catch (Exception e) {
              throw new CustomException(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
          }
      }
+
+    private JobIdPageDTO searchJobIdsBySkills(Set<String> skillNames, Pageable pageable) {
+        if (jobIndexService.isReady()) {
+            List<Long> jobIds = jobIndexService.searchBySkills(skillNames);
+            int from = (int) Math.min(pageable.getOffset(), jobIds.size());
+            int to = Math.min(from + pageable.getPageSize(), jobIds.size());
+            return new JobIdPageDTO(new ArrayList<>(jobIds.subList(from, to)), jobIds.size());
+        }
+        Page<Job> jobs = jobRepository.findJobsBySkillIds(skillDictionaryService.idsOf(skillNames), pageable);
+        return new JobIdPageDTO(jobs.map(Job::getId).getContent(), jobs.getTotalElements());
+    }
+
+    // Cursor-paginated variant; not cached since every cursor is a different key.
+    public CursorPageDTO<Job> searchJobsBySkillAndApplicantAfter(long applicantId, String skillName, JobCursor cursor,
+            int size) {
+        CursorPageDTO.checkSize(size);
+        if (!applicantRepository.existsById(applicantId)) {
+            throw new CustomException("Applicant not found", HttpStatus.NOT_FOUND);
+        }
+        Set<String> skillNames = fuzzySkillMatchService.expand(skillName);
+        if (jobIndexService.isReady()) {
+            List<Long> jobIds = jobIndexService.searchBySkillsAfter(skillNames, cursor, size + 1);
+            return CursorPageDTO.fromJobs(jobRepository.findAllByIdInOrder(jobIds), size);
+        }
+        List<Job> jobs = jobRepository.findJobsBySkillIdsAfter(skillDictionaryService.idsOf(skillNames),
+                cursor.getCreationDate(), cursor.getId(), PageRequest.of(0, size + 1));
+        return CursorPageDTO.fromJobs(jobs, size);
+    }
 }
  
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.talentstream.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.entity.ApplicantSkills;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.entity.Skill;
+import com.talentstream.repository.RecuriterSkillsRepository;
+import com.talentstream.repository.SkillRepository;
+import com.talentstream.search.SearchText;
+
+/**
+ * Interns skill names into canonical {@link Skill} rows with integer ids.
+ * Job skills are shared per canonical skill instead of being inserted again
+ * for every job, and matching queries compare canonical ids.
+ */
+@Service
+public class SkillDictionaryService {
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private RecuriterSkillsRepository recuriterSkillsRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static final Logger logger = LoggerFactory.getLogger(SkillDictionaryService.class);
+
+	// Never assigned by the identity column; keeps "IN :skillIds" valid SQL when
+	// nothing matched.
+	private static final Set<Integer> NO_SKILLS = Set.of(0);
+
+	// Same normalization as SearchText.normalize, in SQL.
+	private static final String NORMALIZED_SKILL_NAME = "regexp_replace(lower(trim(skill_name)), '\\s+', ' ', 'g')";
+
+	private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+
+	// Links skill rows written by older code paths (or before this table
+	// existed) to their canonical skill. Set-based, so cheap when up to date.
+	@Scheduled(initialDelay = 0, fixedDelayString = "${talentstream.skills.backfill-interval-ms:3600000}")
+	public void backfillCanonicalSkills() {
+		try {
+			int linked = 0;
+			for (String table : new String[] { "recuriter_skills", "applicant_skills" }) {
+				jdbcTemplate.update("INSERT INTO skill (normalized_name, display_name) "
+						+ "SELECT DISTINCT ON (" + NORMALIZED_SKILL_NAME + ") " + NORMALIZED_SKILL_NAME + ", trim(skill_name) "
+						+ "FROM " + table + " WHERE canonical_skill_id IS NULL AND trim(skill_name) <> '' "
+						+ "ON CONFLICT (normalized_name) DO NOTHING");
+				linked += jdbcTemplate.update("UPDATE " + table + " t SET canonical_skill_id = s.id FROM skill s "
+						+ "WHERE t.canonical_skill_id IS NULL AND s.normalized_name = "
+						+ NORMALIZED_SKILL_NAME.replace("skill_name", "t.skill_name"));
+			}
+			if (linked > 0) {
+				logger.info("Linked {} skill rows to canonical skills", linked);
+			}
+		} catch (Exception e) {
+			logger.error("Failed to backfill canonical skills", e);
+		}
+	}
+
+	// Returns the canonical skill for the name, creating it on first use; null
+	// for a blank name.
+	public Skill resolve(String skillName) {
+		String normalized = SearchText.normalize(skillName);
+		if (normalized == null) {
+			return null;
+		}
+		Integer id = idsByName.get(normalized);
+		if (id != null) {
+			return skillRepository.getReferenceById(id);
+		}
+		Skill skill = skillRepository.findByNormalizedName(normalized).orElseGet(() -> create(normalized, skillName));
+		idsByName.put(normalized, skill.getId());
+		return skill;
+	}
+
+	private Skill create(String normalized, String skillName) {
+		Skill skill = new Skill();
+		skill.setNormalizedName(normalized);
+		skill.setDisplayName(skillName.trim());
+		try {
+			return skillRepository.save(skill);
+		} catch (DataIntegrityViolationException e) {
+			// Created concurrently by another request.
+			return skillRepository.findByNormalizedName(normalized).orElseThrow(() -> e);
+		}
+	}
+
+	// The shared job skill row for the name; a new (unsaved) row only the first
+	// time a canonical skill is used by a job.
+	public RecuriterSkills recruiterSkillFor(String skillName) {
+		Skill skill = resolve(skillName);
+		Optional<RecuriterSkills> existing = skill == null ? Optional.empty()
+				: recuriterSkillsRepository.findFirstByCanonicalSkillOrderByIdAsc(skill);
+		return existing.orElseGet(() -> {
+			RecuriterSkills recruiterSkill = new RecuriterSkills();
+			recruiterSkill.setSkillName(skillName);
+			recruiterSkill.setCanonicalSkill(skill);
+			return recruiterSkill;
+		});
+	}
+
+	// Applicant skill rows carry per-applicant experience, so they are not
+	// shared; they are only linked to their canonical skill.
+	public void link(Collection<ApplicantSkills> skills) {
+		if (skills == null) {
+			return;
+		}
+		for (ApplicantSkills skill : skills) {
+			if (skill.getCanonicalSkill() == null) {
+				skill.setCanonicalSkill(resolve(skill.getSkillName()));
+			}
+		}
+	}
+
+	// Canonical ids of the given names; unknown names are skipped. Never empty,
+	// so the result can be bound to an IN clause directly.
+	public Set<Integer> idsOf(Collection<String> skillNames) {
+		Set<Integer> ids = new HashSet<>();
+		for (String skillName : skillNames) {
+			String normalized = SearchText.normalize(skillName);
+			if (normalized == null) {
+				continue;
+			}
+			Integer id = idsByName.get(normalized);
+			if (id == null) {
+				id = skillRepository.findByNormalizedName(normalized).map(Skill::getId).orElse(null);
+				if (id != null) {
+					idsByName.put(normalized, id);
+				}
+			}
+			if (id != null) {
+				ids.add(id);
+			}
+		}
+		return ids.isEmpty() ? NO_SKILLS : ids;
+	}
+}
@@ -0,0 +1,110 @@
+package com.talentstream.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.talentstream.dto.TalentMatchDTO;
+import com.talentstream.entity.Applicant;
+import com.talentstream.entity.Job;
+import com.talentstream.exception.CustomException;
+import com.talentstream.repository.ApplicantProfileRepository;
+import com.talentstream.repository.ApplicantRepository;
+import com.talentstream.repository.ApplyJobRepository;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.search.ApplicantCriteria;
+import com.talentstream.search.IndexedJob;
+import com.talentstream.search.ScoredApplicant;
+
+/**
+ * Talent search for recruiters: the applicants across the whole applicant
+ * pool that fit a job best, whether or not they applied. Ranking runs on the
+ * in-memory applicant index; only the returned applicants are loaded.
+ * Contact details are only returned for applicants who applied for the job;
+ * the rest are identified by their profile id.
+ */
+@Service
+public class TalentSearchService {
+
+	@Autowired
+	private JobRepository jobRepository;
+
+	@Autowired
+	private ApplicantRepository applicantRepository;
+
+	@Autowired
+	private ApplicantProfileRepository applicantProfileRepository;
+
+	@Autowired
+	private ApplyJobRepository applyJobRepository;
+
+	@Autowired
+	private ApplicantIndexService applicantIndexService;
+
+	private static final int MAX_LIMIT = 100;
+
+	public List<TalentMatchDTO> bestFitApplicants(Long jobId, String recruiterEmail, int limit) {
+		if (limit < 1 || limit > MAX_LIMIT) {
+			throw new CustomException("limit must be between 1 and " + MAX_LIMIT, HttpStatus.BAD_REQUEST);
+		}
+		Job job = jobRepository.findById(jobId)
+				.orElseThrow(() -> new CustomException("Job not found with ID: " + jobId, HttpStatus.NOT_FOUND));
+		if (recruiterEmail == null || job.getJobRecruiter() == null
+				|| !recruiterEmail.equalsIgnoreCase(job.getJobRecruiter().getEmail())) {
+			throw new CustomException("Job " + jobId + " does not belong to this recruiter", HttpStatus.FORBIDDEN);
+		}
+		IndexedJob indexedJob = IndexedJob.from(job);
+		List<ScoredApplicant> ranked = applicantIndexService.topApplicants(indexedJob, limit);
+		if (ranked.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<Long> applicantIds = ranked.stream().map(scored -> scored.getApplicant().getApplicantId())
+				.collect(Collectors.toList());
+		Map<Long, Integer> profileIds = new HashMap<>();
+		for (Object[] row : applicantProfileRepository.findProfileIdRowsByApplicantIds(applicantIds)) {
+			profileIds.put((Long) row[0], (Integer) row[1]);
+		}
+		Set<Long> appliedIds = new HashSet<>(
+				applyJobRepository.findApplicantIdsByJobIdAndApplicantIdIn(jobId, applicantIds));
+		Map<Long, Applicant> applicants = appliedIds.isEmpty() ? new HashMap<>()
+				: applicantRepository.findAllById(appliedIds).stream()
+						.collect(Collectors.toMap(Applicant::getId, Function.identity()));
+
+		List<TalentMatchDTO> matches = new ArrayList<>(ranked.size());
+		for (ScoredApplicant scored : ranked) {
+			ApplicantCriteria criteria = scored.getApplicant();
+			Integer profileId = profileIds.get(criteria.getApplicantId());
+			if (profileId == null) {
+				continue;
+			}
+			TalentMatchDTO match = new TalentMatchDTO();
+			match.setProfileId(profileId);
+			match.setMatchedSkills(indexedJob.getSkills().stream().filter(criteria.getSkills()::contains)
+					.collect(Collectors.toList()));
+			match.setScore(scored.getScore());
+			Applicant applicant = applicants.get(criteria.getApplicantId());
+			if (applicant != null) {
+				match.setApplied(true);
+				match.setApplicantId(applicant.getId());
+				match.setName(applicant.getName());
+				match.setEmail(applicant.getEmail());
+				match.setMobilenumber(applicant.getMobilenumber());
+				match.setExperience(criteria.getExperience());
+				match.setQualification(criteria.getQualification());
+				match.setSpecialization(criteria.getSpecialization());
+			}
+			matches.add(match);
+		}
+		return matches;
+	}
+}
@@ -4,9 +4,12 @@ package com.talentstream.service;
 import java.time.LocalDateTime;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.talentstream.entity.Applicant;
 import com.talentstream.entity.UserActivity;
+import com.talentstream.repository.RegisterRepository;
 import com.talentstream.repository.UserActivityRepository;
 
 @Service
@@ -15,9 +18,30 @@ public class UserActivityService {
 	 @Autowired
 	    private UserActivityRepository userActivityRepository;
 
-	    public void logActivity(Long userId, String actionType) {
+	 @Autowired
+	    private RecommendationWarmupService recommendationWarmupService;
+
+	 @Autowired
+	    private RegisterRepository registerRepository;
+
+	    public void logActivity(Long userId, String actionType, UserDetails user) {
 	        UserActivity activity = new UserActivity(userId, actionType, LocalDateTime.now());
 	        userActivityRepository.save(activity);
+	        // Have the dashboard's first recommendation pages ready before it asks.
+	        if ("login".equalsIgnoreCase(actionType) && isApplicant(userId, user)) {
+	            recommendationWarmupService.onLogin(userId);
+	        }
+	    }
+
+	    // Recruiter and applicant ids overlap, so the id is only trusted when the
+	    // caller is signed in as that applicant.
+	    private boolean isApplicant(Long userId, UserDetails user) {
+	        if (userId == null || user == null || user.getAuthorities().stream()
+	                .noneMatch(authority -> "ROLE_JOBAPPLICANT".equals(authority.getAuthority()))) {
+	            return false;
+	        }
+	        Applicant applicant = registerRepository.findByEmail(user.getUsername());
+	        return applicant != null && applicant.getId() == userId;
 	    }
 }
 
@@ -1,5 +1,6 @@
 package com.talentstream.service;
  
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -12,11 +13,13 @@ import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.talentstream.dto.JobDTO;
+import com.talentstream.dto.SimilarJobDTO;
 import com.talentstream.entity.ApplicantProfile;
 import com.talentstream.entity.ApplicantSkills;
 import com.talentstream.entity.ApplyJob;
@@ -25,6 +28,7 @@ import com.talentstream.entity.RecuriterSkills;
 import com.talentstream.exception.CustomException;
 import com.talentstream.repository.ApplicantProfileRepository;
 import com.talentstream.repository.JobRepository;
+import com.talentstream.search.IndexedJob;
 @Service
 public class ViewJobService {
 	@Autowired
@@ -36,6 +40,15 @@ public class ViewJobService {
 	
 	@Autowired
 	private ApplicantProfileRepository applicantProfileRepository;
+
+	@Autowired
+	private JobIndexService jobIndexService;
+
+	@Value("${talentstream.search.similar-jobs.limit:6}")
+	private int similarJobsLimit;
+
+	@Value("${talentstream.search.similar-jobs.min-similarity:0.2}")
+	private double minSimilarity;
 	
 	 private static final Logger logger = LoggerFactory.getLogger(ViewJobService.class);
 	 private static final String NOT_FOUND_MESG=" not found.";
@@ -67,6 +80,7 @@ public ResponseEntity<JobDTO> getJobDetailsForApplicant(Long jobId) {
         jobDTO.setDescription(job.getDescription());
         jobDTO.setCreationDate(job.getCreationDate());
         jobDTO.setJobURL(job.getJobURL());
+        jobDTO.setSimilarJobs(similarJobsOf(job));
         long jobRecruiterId = job.getJobRecruiter().getRecruiterId();
 	    byte[] imageBytes = null;
 
@@ -80,6 +94,31 @@ public ResponseEntity<JobDTO> getJobDetailsForApplicant(Long jobId) {
         throw new CustomException(JOB_ID+ jobId + NOT_FOUND_MESG, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
+// Related jobs by skills and title, from the job index. Never fails the page.
+private List<SimilarJobDTO> similarJobsOf(Job job) {
+    List<SimilarJobDTO> similarJobs = new ArrayList<>();
+    try {
+        Map<Long, Double> similar = jobIndexService.similarJobs(IndexedJob.from(job), similarJobsLimit, minSimilarity);
+        if (similar.isEmpty()) {
+            return similarJobs;
+        }
+        for (Job other : jobRepository.findAllByIdInOrder(new ArrayList<>(similar.keySet()))) {
+            SimilarJobDTO dto = new SimilarJobDTO();
+            dto.setId(other.getId());
+            dto.setJobTitle(other.getJobTitle());
+            dto.setCompanyname(other.getJobRecruiter().getCompanyname());
+            dto.setLocation(other.getLocation());
+            dto.setMinimumExperience(other.getMinimumExperience());
+            dto.setMaximumExperience(other.getMaximumExperience());
+            dto.setSimilarity(similar.get(other.getId()));
+            similarJobs.add(dto);
+        }
+    } catch (Exception e) {
+        logger.warn("Could not load similar jobs for job {}", job.getId(), e);
+    }
+    return similarJobs;
+}
+
 public ResponseEntity<?> getJobDetailsForApplicant(Long jobId, Long applicantId) {
     final ModelMapper modelMapper = new ModelMapper();
     Job job = jobRepository.findById(jobId).orElse(null);
@@ -106,6 +145,8 @@ public ResponseEntity<?> getJobDetailsForApplicant(Long jobId, Long applicantId)
     if (job == null) {
         throw new CustomException(JOB_ID+ jobId + NOT_FOUND_MESG, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+    // Before the job's skills are trimmed to the unmatched ones below.
+    List<SimilarJobDTO> similarJobs = similarJobsOf(job);
 
     ApplicantProfile applicantProfile = applicantProfileRepository.findByApplicantId(applicantId);
     if (applicantProfile == null) {
@@ -185,6 +226,7 @@ public ResponseEntity<?> getJobDetailsForApplicant(Long jobId, Long applicantId)
     jobDTO.setSugesstedCourses(matchedCourses);
     jobDTO.setMatchPercentage(roundedMatchPercentage);
     jobDTO.setAdditionalSkills(neitherMatchedNorNonMatchedSkills);
+    jobDTO.setSimilarJobs(similarJobs);
     
     
 
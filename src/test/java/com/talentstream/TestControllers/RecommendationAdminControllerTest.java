@@ -0,0 +1,59 @@
+package com.talentstream.TestControllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.talentstream.controller.RecommendationAdminController;
+import com.talentstream.dto.RecommendationBatchStatusDTO;
+import com.talentstream.exception.CustomException;
+import com.talentstream.service.RecommendationBatchService;
+
+@ExtendWith(MockitoExtension.class)
+public class RecommendationAdminControllerTest {
+
+	@InjectMocks
+	private RecommendationAdminController recommendationAdminController;
+
+	@Mock
+	private RecommendationBatchService recommendationBatchService;
+
+	@Test
+	public void testRecomputeStartsWithTheConfiguredToken() {
+		ReflectionTestUtils.setField(recommendationAdminController, "adminToken", "s3cret");
+		when(recommendationBatchService.start("admin")).thenReturn(true);
+		when(recommendationBatchService.status()).thenReturn(new RecommendationBatchStatusDTO());
+
+		assertEquals(HttpStatus.ACCEPTED, recommendationAdminController.recompute("s3cret").getStatusCode());
+	}
+
+	@Test
+	public void testOtherTokensAreForbidden() {
+		ReflectionTestUtils.setField(recommendationAdminController, "adminToken", "s3cret");
+
+		for (String token : new String[] { null, "", "s3cre", "s3cret!", "S3CRET" }) {
+			CustomException e = assertThrows(CustomException.class,
+					() -> recommendationAdminController.recompute(token));
+			assertEquals(HttpStatus.FORBIDDEN, e.getStatus());
+		}
+		verifyNoInteractions(recommendationBatchService);
+	}
+
+	@Test
+	public void testEndpointsAreDisabledWithoutAToken() {
+		ReflectionTestUtils.setField(recommendationAdminController, "adminToken", "");
+
+		CustomException e = assertThrows(CustomException.class, () -> recommendationAdminController.status(""));
+		assertEquals(HttpStatus.FORBIDDEN, e.getStatus());
+		verifyNoInteractions(recommendationBatchService);
+	}
+}
@@ -0,0 +1,160 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.talentstream.repository.JobRecruiterRepository;
+import com.talentstream.repository.RegisterRepository;
+import com.talentstream.service.AlertCounterService;
+
+@ExtendWith(MockitoExtension.class)
+public class AlertCounterServiceTest {
+
+	private static final String APPLICANT_DELTAS = "alertCounts:applicant";
+
+	@InjectMocks
+	private AlertCounterService alertCounterService;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private RegisterRepository applicantRepository;
+
+	@Mock
+	private JobRecruiterRepository jobRecruiterRepository;
+
+	// Contents of the Redis delta hashes, by hash key.
+	private final Map<String, Map<Object, Object>> hashes = new HashMap<>();
+
+	@BeforeEach
+	public void setUp() {
+		lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		lenient().when(hashOperations.increment(anyString(), any(), anyLong())).thenAnswer(invocation -> {
+			Map<Object, Object> hash = hashes.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>());
+			return (Long) hash.merge(invocation.getArgument(1), invocation.getArgument(2),
+					(a, b) -> (Long) a + (Long) b);
+		});
+		lenient().when(hashOperations.get(anyString(), any()))
+				.thenAnswer(invocation -> hashes.getOrDefault(invocation.getArgument(0), new HashMap<>())
+						.get(invocation.getArgument(1)));
+		lenient().when(hashOperations.entries(anyString())).thenAnswer(
+				invocation -> new HashMap<>(hashes.getOrDefault(invocation.getArgument(0), new HashMap<>())));
+		lenient().when(hashOperations.delete(anyString(), any())).thenAnswer(invocation -> {
+			hashes.getOrDefault(invocation.getArgument(0), new HashMap<>()).remove(invocation.getArgument(1));
+			return 1L;
+		});
+	}
+
+	@Test
+	public void testIncrementsAreCountedOnTopOfTheColumn() {
+		alertCounterService.incrementApplicant(1L, 2);
+		alertCounterService.incrementApplicant(1L, 1);
+		when(applicantRepository.findAlertCountById(1L)).thenReturn(4);
+
+		assertEquals(7, alertCounterService.applicantCount(1L));
+		verify(applicantRepository, never()).addAlertCount(anyLong(), anyLong());
+	}
+
+	@Test
+	public void testUnknownApplicantHasNoCount() {
+		alertCounterService.incrementApplicant(1L, 1);
+		when(applicantRepository.findAlertCountById(1L)).thenReturn(null);
+
+		assertNull(alertCounterService.applicantCount(1L));
+	}
+
+	@Test
+	public void testIncrementFallsBackToTheColumnWhenRedisFails() {
+		doThrow(new RedisConnectionFailureException("down")).when(hashOperations).increment(anyString(), any(),
+				anyLong());
+
+		alertCounterService.incrementApplicant(1L, 3);
+		alertCounterService.incrementRecruiter(9L);
+
+		verify(applicantRepository).addAlertCount(1L, 3);
+		verify(jobRecruiterRepository).addAlertCount(9L, 1);
+	}
+
+	@Test
+	public void testCountIgnoresRedisWhenItFails() {
+		when(applicantRepository.findAlertCountById(1L)).thenReturn(4);
+		doThrow(new RedisConnectionFailureException("down")).when(hashOperations).get(anyString(), any());
+
+		assertEquals(4, alertCounterService.applicantCount(1L));
+	}
+
+	@Test
+	public void testReconcileMovesDeltasIntoTheColumnOnce() {
+		alertCounterService.incrementApplicant(1L, 2);
+		alertCounterService.incrementApplicant(2L, 1);
+		alertCounterService.incrementRecruiter(9L);
+		alertCounterService.incrementRecruiter(9L);
+
+		alertCounterService.reconcile();
+
+		verify(applicantRepository).addAlertCount(1L, 2);
+		verify(applicantRepository).addAlertCount(2L, 1);
+		verify(jobRecruiterRepository).addAlertCount(9L, 2);
+
+		// The applied deltas are zero now; a second pass only clears them.
+		alertCounterService.reconcile();
+
+		verify(applicantRepository, times(2)).addAlertCount(anyLong(), anyLong());
+		verify(jobRecruiterRepository, times(1)).addAlertCount(anyLong(), anyLong());
+		assertEquals(0, hashes.get(APPLICANT_DELTAS).size());
+	}
+
+	@Test
+	public void testReconcileKeepsTheDeltaWhenTheColumnWriteFails() {
+		alertCounterService.incrementApplicant(1L, 2);
+		when(applicantRepository.addAlertCount(1L, 2)).thenThrow(new IllegalStateException("database down"))
+				.thenReturn(1);
+
+		alertCounterService.reconcile();
+		assertEquals(2L, hashes.get(APPLICANT_DELTAS).get("1"));
+
+		alertCounterService.reconcile();
+		assertEquals(0L, hashes.get(APPLICANT_DELTAS).get("1"));
+		verify(applicantRepository, times(2)).addAlertCount(1L, 2);
+	}
+
+	@Test
+	public void testIncrementDuringReconcileIsNotLost() {
+		alertCounterService.incrementApplicant(1L, 2);
+		when(applicantRepository.addAlertCount(1L, 2)).thenAnswer(invocation -> {
+			// Arrives after the delta was read and taken out of Redis.
+			alertCounterService.incrementApplicant(1L, 1);
+			return 1;
+		});
+
+		alertCounterService.reconcile();
+
+		assertEquals(1L, hashes.get(APPLICANT_DELTAS).get("1"));
+	}
+}
@@ -0,0 +1,97 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.talentstream.entity.Job;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.search.ApplicantCriteria;
+import com.talentstream.search.IndexedJob;
+import com.talentstream.search.ScoredApplicant;
+import com.talentstream.service.ApplicantIndexService;
+
+public class ApplicantIndexServiceTest {
+
+	private ApplicantIndexService applicantIndexService;
+
+	@BeforeEach
+	public void setUp() {
+		applicantIndexService = new ApplicantIndexService(0.5, 0.1, 0.2, 0.1, 0.1);
+		applicantIndexService.index(applicant(1L, Set.of("java", "spring"), Set.of("hyderabad"), 3, "computer science"));
+		applicantIndexService.index(applicant(2L, Set.of("python"), Set.of("chennai"), 8, null));
+		applicantIndexService.index(applicant(3L, Set.of("excel"), Set.of("pune"), 0, "commerce"));
+	}
+
+	@Test
+	public void testJobWriteAffectsApplicantsMatchingTheOldOrNewJob() {
+		IndexedJob previous = job("Bangalore", null, 10, 12, "Java");
+		IndexedJob current = job("Pune", null, 10, 12, "Python");
+
+		assertEquals(Set.of(1L), applicantIndexService.applicantsMatching(Arrays.asList(previous, null)));
+		assertEquals(Set.of(1L, 2L, 3L), applicantIndexService.applicantsMatching(List.of(previous, current)));
+		// Experience, location and specialization match without any skill.
+		assertEquals(Set.of(2L), applicantIndexService.applicantsMatching(List.of(job("Delhi", null, 7, 9))));
+		assertEquals(Set.of(3L), applicantIndexService.applicantsMatching(List.of(job("Delhi", "Commerce", 10, 12))));
+	}
+
+	@Test
+	public void testProfileChangesMoveTheApplicant() {
+		applicantIndexService.index(applicant(2L, Set.of("java"), Set.of("chennai"), 8, null));
+		applicantIndexService.remove(1L);
+
+		assertEquals(Set.of(2L), applicantIndexService.applicantsMatching(List.of(job("Delhi", null, 10, 12, "Java"))));
+		assertEquals(Set.of(), applicantIndexService.applicantsMatching(List.of(job("Delhi", null, 10, 12, "Python"))));
+	}
+
+	@Test
+	public void testTopApplicantsRankSkillShareFirst() {
+		applicantIndexService.index(applicant(4L, Set.of("java"), Set.of("hyderabad"), 3, "computer science"));
+		applicantIndexService.index(applicant(5L, Set.of("java"), Set.of("delhi"), 15, null));
+
+		List<Long> ranked = applicantIndexService
+				.topApplicants(job("Hyderabad", "Computer Science", 2, 4, "Java", "Spring"), 2).stream()
+				.map(scored -> scored.getApplicant().getApplicantId()).collect(Collectors.toList());
+
+		// Applicant 1 has both skills; 4 has one but fits otherwise; 5 is cut.
+		assertEquals(List.of(1L, 4L), ranked);
+	}
+
+	@Test
+	public void testTopApplicantsWithoutSkillsUseTheOtherCriteria() {
+		List<ScoredApplicant> ranked = applicantIndexService.topApplicants(job("Pune", null, 10, 12), 10);
+
+		assertEquals(1, ranked.size());
+		assertEquals(3L, ranked.get(0).getApplicant().getApplicantId());
+	}
+
+	private static ApplicantCriteria applicant(Long applicantId, Set<String> skills, Set<String> locations,
+			Integer experience, String specialization) {
+		return new ApplicantCriteria(applicantId, skills, locations, experience, specialization, null);
+	}
+
+	private static IndexedJob job(String location, String specialization, int minimumExperience,
+			int maximumExperience, String... skillNames) {
+		Job job = new Job();
+		job.setId(100L);
+		job.setLocation(location);
+		job.setSpecialization(specialization);
+		job.setMinimumExperience(minimumExperience);
+		job.setMaximumExperience(maximumExperience);
+		Set<RecuriterSkills> skills = new HashSet<>();
+		for (String skillName : skillNames) {
+			RecuriterSkills skill = new RecuriterSkills();
+			skill.setSkillName(skillName);
+			skills.add(skill);
+		}
+		job.setSkillsRequired(skills);
+		return IndexedJob.from(job);
+	}
+}
@@ -0,0 +1,205 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.talentstream.dto.BulkStatusUpdateResultDTO;
+import com.talentstream.entity.JobRecruiter;
+import com.talentstream.entity.NotificationOutbox;
+import com.talentstream.exception.CustomException;
+import com.talentstream.repository.JobRecruiterRepository;
+import com.talentstream.service.AlertCounterService;
+import com.talentstream.service.ApplicantStatusBulkService;
+import com.talentstream.service.NotificationOutboxService;
+
+@ExtendWith(MockitoExtension.class)
+public class ApplicantStatusBulkServiceTest {
+
+	private static final long RECRUITER_ID = 3L;
+	private static final String RECRUITER_EMAIL = "hr@example.com";
+
+	@InjectMocks
+	private ApplicantStatusBulkService applicantStatusBulkService;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private NotificationOutboxService notificationOutboxService;
+
+	@Mock
+	private AlertCounterService alertCounterService;
+
+	@Mock
+	private JobRecruiterRepository jobRecruiterRepository;
+
+	// The applyjob ids bound to the UPDATE statement.
+	private List<Object> boundIds;
+
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(applicantStatusBulkService, "maxIds", 3);
+	}
+
+	@Test
+	public void testOtherRecruitersAreForbidden() {
+		JobRecruiter other = new JobRecruiter();
+		other.setRecruiterId(RECRUITER_ID + 1);
+		when(jobRecruiterRepository.findByEmail("other@example.com")).thenReturn(other);
+
+		CustomException e = assertThrows(CustomException.class, () -> applicantStatusBulkService
+				.updateStatus(RECRUITER_ID, "other@example.com", List.of(10L), "Shortlisted"));
+		assertEquals(HttpStatus.FORBIDDEN, e.getStatus());
+		e = assertThrows(CustomException.class,
+				() -> applicantStatusBulkService.updateStatus(RECRUITER_ID, null, List.of(10L), "Shortlisted"));
+		assertEquals(HttpStatus.FORBIDDEN, e.getStatus());
+		verifyNoInteractions(jdbcTemplate, transactionTemplate);
+	}
+
+	@Test
+	public void testDuplicateAndNullIdsAreBoundOnce() {
+		owner();
+		updates(new long[] { 10L, 1L });
+
+		BulkStatusUpdateResultDTO result = applicantStatusBulkService.updateStatus(RECRUITER_ID, RECRUITER_EMAIL,
+				Arrays.asList(10L, null, 11L, 10L, 12L, 11L), " Shortlisted ");
+
+		assertEquals(List.of(10L, 11L, 12L), boundIds);
+		assertEquals("Shortlisted", result.getNewStatus());
+		assertEquals(1, result.getUpdated());
+	}
+
+	@Test
+	public void testIdsThatWereNotUpdatedAreSkipped() {
+		owner();
+		updates(new long[] { 12L, 1L }, new long[] { 10L, 2L });
+
+		BulkStatusUpdateResultDTO result = applicantStatusBulkService.updateStatus(RECRUITER_ID, RECRUITER_EMAIL,
+				List.of(10L, 11L, 12L), "Shortlisted");
+
+		assertEquals(2, result.getUpdated());
+		assertEquals(List.of(11L), result.getSkippedApplyJobIds());
+	}
+
+	@Test
+	public void testNothingUpdatedWritesNothingElse() {
+		owner();
+		updates();
+
+		BulkStatusUpdateResultDTO result = applicantStatusBulkService.updateStatus(RECRUITER_ID, RECRUITER_EMAIL,
+				List.of(10L, 11L), "Shortlisted");
+
+		assertEquals(List.of(10L, 11L), result.getSkippedApplyJobIds());
+		verifyNoInteractions(notificationOutboxService, alertCounterService);
+	}
+
+	@Test
+	public void testMoreDistinctIdsThanTheLimitAreRejected() {
+		owner();
+
+		CustomException e = assertThrows(CustomException.class, () -> applicantStatusBulkService
+				.updateStatus(RECRUITER_ID, RECRUITER_EMAIL, List.of(1L, 2L, 3L, 4L), "Shortlisted"));
+		assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+		verifyNoInteractions(jdbcTemplate);
+
+		// Repeated ids count once.
+		updates();
+		applicantStatusBulkService.updateStatus(RECRUITER_ID, RECRUITER_EMAIL, List.of(1L, 2L, 3L, 3L, 1L),
+				"Shortlisted");
+		assertEquals(List.of(1L, 2L, 3L), boundIds);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAlertCountsAreBumpedOncePerApplicant() {
+		owner();
+		updates(new long[] { 10L, 1L }, new long[] { 11L, 1L }, new long[] { 12L, 2L });
+
+		applicantStatusBulkService.updateStatus(RECRUITER_ID, RECRUITER_EMAIL, List.of(10L, 11L, 12L),
+				"Shortlisted");
+
+		verify(alertCounterService).incrementApplicant(1L, 2);
+		verify(alertCounterService).incrementApplicant(2L, 1);
+		verifyNoMoreInteractions(alertCounterService);
+
+		// One alert row per application, and the outbox only sends the emails.
+		ArgumentCaptor<List<Object[]>> alerts = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq(alertSql()), alerts.capture());
+		assertEquals(3, alerts.getValue().size());
+		ArgumentCaptor<List<NotificationOutbox>> emails = ArgumentCaptor.forClass(List.class);
+		verify(notificationOutboxService).enqueueAll(emails.capture());
+		assertEquals(3, emails.getValue().size());
+		assertTrue(emails.getValue().stream().allMatch(NotificationOutbox::isAlertCreated));
+	}
+
+	private void owner() {
+		JobRecruiter recruiter = new JobRecruiter();
+		recruiter.setRecruiterId(RECRUITER_ID);
+		when(jobRecruiterRepository.findByEmail(RECRUITER_EMAIL)).thenReturn(recruiter);
+	}
+
+	// The UPDATE ... RETURNING statement reports the given (applyjob id,
+	// applicant id) rows as updated.
+	@SuppressWarnings("unchecked")
+	private void updates(long[]... rows) {
+		when(transactionTemplate.execute(any()))
+				.thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+		when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenAnswer(invocation -> {
+			Connection connection = mock(Connection.class);
+			when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+			when(connection.createArrayOf(eq("bigint"), any())).thenAnswer(array -> {
+				boundIds = Arrays.asList((Object[]) array.getArgument(1));
+				return null;
+			});
+			((PreparedStatementCreator) invocation.getArgument(0)).createPreparedStatement(connection);
+
+			RowMapper<Object> mapper = invocation.getArgument(1);
+			List<Object> updated = new ArrayList<>();
+			for (int i = 0; i < rows.length; i++) {
+				ResultSet resultSet = mock(ResultSet.class);
+				when(resultSet.getLong(1)).thenReturn(rows[i][0]);
+				when(resultSet.getLong(2)).thenReturn(rows[i][1]);
+				updated.add(mapper.mapRow(resultSet, i));
+			}
+			return updated;
+		});
+	}
+
+	private static String alertSql() {
+		return (String) ReflectionTestUtils.getField(ApplicantStatusBulkService.class, "INSERT_ALERT");
+	}
+}
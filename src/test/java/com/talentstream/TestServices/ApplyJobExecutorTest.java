@@ -0,0 +1,59 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.talentstream.config.AsyncConfig;
+
+public class ApplyJobExecutorTest {
+
+	private final ThreadPoolTaskExecutor executor = new AsyncConfig().applyJobExecutor(1, 1);
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testOverflowRunsOnTheCallerInsteadOfBeingDropped() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger completed = new AtomicInteger();
+		executor.execute(() -> {
+			await(release);
+			completed.incrementAndGet();
+		});
+		executor.execute(completed::incrementAndGet);
+
+		// The only worker is busy and the queue is full.
+		Thread caller = Thread.currentThread();
+		AtomicInteger ranOnCaller = new AtomicInteger();
+		executor.execute(() -> {
+			if (Thread.currentThread() == caller) {
+				ranOnCaller.incrementAndGet();
+			}
+			completed.incrementAndGet();
+		});
+		assertEquals(1, ranOnCaller.get());
+
+		release.countDown();
+		executor.getThreadPoolExecutor().shutdown();
+		assertTrue(executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(3, completed.get());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.talentstream.entity.AppliedApplicantInfo;
+import com.talentstream.entity.AppliedApplicantInfoDTO;
+import com.talentstream.entity.MatchTypes;
+import com.talentstream.exception.CustomException;
+import com.talentstream.repository.ApplyJobRepository;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.service.ApplyJobEventService;
+import com.talentstream.service.ApplyJobService;
+
+@ExtendWith(MockitoExtension.class)
+public class ApplyJobServiceTest {
+
+	@InjectMocks
+	private ApplyJobService applyJobService;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private ApplyJobEventService applyJobEventService;
+
+	@Mock
+	private ApplyJobRepository applyJobRepository;
+
+	@Mock
+	private JobRepository jobRepository;
+
+	@Test
+	public void testApplyWritesEverythingInOneStatement() {
+		applyReturns(new Object[] { 100L, 5L, "Acme" });
+
+		assertEquals("Job applied successfully", applyJobService.applicantApplyJob(7L, 3L));
+
+		// Only the recruiter's alert count is left to the background.
+		verify(applyJobEventService).onJobApplied(5L);
+	}
+
+	@Test
+	public void testSecondApplyIsReportedWithoutSideEffects() {
+		applyReturns(new Object[] { null, 5L, "Acme" });
+
+		assertEquals("Job has already been applied by the applicant", applyJobService.applicantApplyJob(7L, 3L));
+		verify(applyJobEventService, never()).onJobApplied(anyLong());
+	}
+
+	@Test
+	public void testJobWithoutCompanyIsReported() {
+		applyReturns(new Object[] { 100L, null, null });
+
+		assertEquals("Company information not found for the given ApplyJob",
+				applyJobService.applicantApplyJob(7L, 3L));
+		verify(applyJobEventService, never()).onJobApplied(anyLong());
+	}
+
+	@Test
+	public void testUnknownApplicantOrJob() {
+		applyReturns();
+
+		CustomException e = assertThrows(CustomException.class, () -> applyJobService.applicantApplyJob(7L, 3L));
+		assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+	}
+
+	@Test
+	public void testDatabaseFailureIsReportedAsServerError() {
+		when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object[]>>any(), eq(7L), eq(3L), any(),
+				any(), any(), any(), any())).thenThrow(new DataAccessResourceFailureException("connection reset"));
+
+		CustomException e = assertThrows(CustomException.class, () -> applyJobService.applicantApplyJob(7L, 3L));
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, e.getStatus());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testListingLoadsProfilesAndSkillsWithoutPerRowQueries() {
+		when(applyJobRepository.findAppliedApplicantsWithProfile(9L)).thenReturn(List.of(
+				row(100L, 3L, "asha@example.com", "Asha", "Rao"),
+				row(101L, 4L, "ravi@example.com", "Ravi", "Kumar"),
+				row(100L, 3L, "asha@example.com", "Asha", "Rao")));
+		when(jobRepository.findSkillNameRowsByJobIds(Set.of(3L, 4L))).thenReturn(List.of(
+				new Object[] { 3L, "Java" }, new Object[] { 3L, "Spring" }, new Object[] { 4L, null }));
+
+		List<AppliedApplicantInfoDTO> listing = applyJobService.getAppliedApplicants2(9L, new MatchTypes(), null,
+				null, null, null, null, null, null, null, null);
+
+		assertEquals(List.of(100L, 101L),
+				listing.stream().map(AppliedApplicantInfoDTO::getApplyjobid).collect(Collectors.toList()));
+		assertEquals("Asha Rao", listing.get(0).getName());
+		assertEquals("98765", listing.get(0).getMobilenumber());
+		assertEquals(List.of("Java", "Spring"), listing.get(0).getSkillName());
+		assertEquals(List.of(), listing.get(1).getSkillName());
+		verify(jobRepository, times(1)).findSkillNameRowsByJobIds(any(Collection.class));
+	}
+
+	@Test
+	public void testListingSkipsProfilesWithoutBasicDetails() {
+		when(applyJobRepository.findAppliedApplicantsWithProfile(9L)).thenReturn(List.of(
+				row(100L, 3L, "asha@example.com", "Asha", "Rao"),
+				row(101L, 3L, "ravi@example.com", null, null)));
+		when(jobRepository.findSkillNameRowsByJobIds(Set.of(3L))).thenReturn(List.of());
+
+		List<AppliedApplicantInfoDTO> listing = applyJobService.getAppliedApplicants2(9L, new MatchTypes(), null,
+				null, null, null, null, null, null, null, null);
+
+		assertEquals(1, listing.size());
+		assertEquals("Asha Rao", listing.get(0).getName());
+	}
+
+	private void applyReturns(Object[]... rows) {
+		when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object[]>>any(), eq(7L), eq(3L), any(),
+				any(), any(), any(), any())).thenReturn(List.of(rows));
+	}
+
+	private static AppliedApplicantInfo row(Long applyJobId, Long jobId, String email, String firstName,
+			String lastName) {
+		return new AppliedApplicantInfo(applyJobId, "user", 7L, email, "12345", "New", "Developer", jobId,
+				"Applied", 2, "B.Tech", "Hyderabad", "3", "B.Tech", firstName, lastName, "98765");
+	}
+}
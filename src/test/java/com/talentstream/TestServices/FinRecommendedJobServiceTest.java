@@ -0,0 +1,97 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.talentstream.dto.JobDTO;
+import com.talentstream.entity.Job;
+import com.talentstream.entity.JobRecruiter;
+import com.talentstream.repository.ApplicantProfileRepository;
+import com.talentstream.repository.ApplyJobRepository;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.repository.SavedJobRepository;
+import com.talentstream.service.FinRecommendedJobService;
+import com.talentstream.service.RecommendationCacheService;
+import com.talentstream.service.RecommendationSnapshotService;
+
+@ExtendWith(MockitoExtension.class)
+public class FinRecommendedJobServiceTest {
+
+	private static final long APPLICANT_ID = 7L;
+
+	@InjectMocks
+	private FinRecommendedJobService finRecommendedJobService;
+
+	@Mock
+	private JobRepository jobRepository;
+
+	@Mock
+	private ApplicantProfileRepository applicantRepository;
+
+	@Mock
+	private ApplyJobRepository applyJobRepository;
+
+	@Mock
+	private SavedJobRepository savedJobRepository;
+
+	@Mock
+	private RecommendationSnapshotService recommendationSnapshotService;
+
+	@Mock
+	private RecommendationCacheService recommendationCacheService;
+
+	@BeforeEach
+	public void setUp() {
+		// Snapshot ranking 5, 4, 3, 2, 1: job 1 was closed, 4 saved and 3 applied to since.
+		when(recommendationSnapshotService.recommendedJobIds(APPLICANT_ID))
+				.thenReturn(Optional.of(List.of(5L, 4L, 3L, 2L, 1L)));
+		when(jobRepository.findActiveJobIdsIn(List.of(5L, 4L, 3L, 2L, 1L))).thenReturn(List.of(2L, 3L, 4L, 5L));
+		when(savedJobRepository.findSavedJobIdsByApplicantId(APPLICANT_ID)).thenReturn(List.of(4L));
+		List<Object[]> applied = new ArrayList<>();
+		applied.add(new Object[] { APPLICANT_ID, 3L });
+		when(applyJobRepository.findJobIdRowsByApplicantIds(List.of(APPLICANT_ID))).thenReturn(applied);
+	}
+
+	@Test
+	public void testCountIsTheSizeOfTheServedList() {
+		when(recommendationCacheService.getOrLoad(anyLong(), anyInt(), anyInt(), any()))
+				.thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
+		when(jobRepository.findAllByIdInOrder(List.of(5L, 2L))).thenReturn(List.of(job(5L), job(2L)));
+
+		List<JobDTO> jobs = finRecommendedJobService.recommendJobsForApplicant(APPLICANT_ID, 0, 10);
+
+		assertEquals(List.of(5L, 2L), jobs.stream().map(JobDTO::getId).collect(Collectors.toList()));
+		assertEquals(jobs.size(), finRecommendedJobService.countRecommendedJobsForApplicant(APPLICANT_ID));
+	}
+
+	@Test
+	public void testCountDoesNotRunTheMatchingQueryWhenThereIsASnapshot() {
+		assertEquals(2, finRecommendedJobService.countRecommendedJobsForApplicant(APPLICANT_ID));
+		verify(applicantRepository, never()).findByApplicantIdWithSkills(APPLICANT_ID);
+	}
+
+	private static Job job(Long id) {
+		Job job = new Job();
+		job.setId(id);
+		job.setJobRecruiter(new JobRecruiter());
+		return job;
+	}
+}
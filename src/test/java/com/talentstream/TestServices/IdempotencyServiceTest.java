@@ -0,0 +1,154 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentstream.service.IdempotencyService;
+
+@ExtendWith(MockitoExtension.class)
+public class IdempotencyServiceTest {
+
+	private static final String SCOPE = "apply:1:2";
+	private static final String KEY = "idempotency:apply:1:2:retry-1";
+
+	@InjectMocks
+	private IdempotencyService idempotencyService;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, Object> valueOperations;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	private final AtomicInteger writes = new AtomicInteger();
+
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+		ReflectionTestUtils.setField(idempotencyService, "lockSeconds", 60L);
+	}
+
+	@Test
+	public void testWithoutKeyTheWriteJustRuns() {
+		ResponseEntity<Object> response = idempotencyService.execute(SCOPE, null, this::apply);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(1, writes.get());
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	public void testRejectsOverlongKey() {
+		ResponseEntity<Object> response = idempotencyService.execute(SCOPE, "k".repeat(129), this::apply);
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals(0, writes.get());
+	}
+
+	@Test
+	public void testFirstRequestClaimsRunsAndStores() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(KEY, "IN_PROGRESS", Duration.ofSeconds(60))).thenReturn(true);
+
+		ResponseEntity<Object> response = idempotencyService.execute(SCOPE, " retry-1 ", this::apply);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("Job applied successfully", response.getBody());
+		assertEquals(1, writes.get());
+		verify(valueOperations).set(eq(KEY), anyMap(), eq(Duration.ofHours(24)));
+	}
+
+	@Test
+	public void testRetryReplaysStoredResponse() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(KEY, "IN_PROGRESS", Duration.ofSeconds(60))).thenReturn(false);
+		when(valueOperations.get(KEY))
+				.thenReturn(Map.of("status", 200, "body", "Job applied successfully", "json", false));
+
+		ResponseEntity<Object> response = idempotencyService.execute(SCOPE, "retry-1", this::apply);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals("Job applied successfully", response.getBody());
+		assertEquals("true", response.getHeaders().getFirst("Idempotent-Replayed"));
+		assertEquals(0, writes.get());
+	}
+
+	@Test
+	public void testRetryWhileInProgressConflicts() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(KEY, "IN_PROGRESS", Duration.ofSeconds(60))).thenReturn(false);
+		when(valueOperations.get(KEY)).thenReturn("IN_PROGRESS");
+
+		ResponseEntity<Object> response = idempotencyService.execute(SCOPE, "retry-1", this::apply);
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals(0, writes.get());
+	}
+
+	@Test
+	public void testServerErrorReleasesKey() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(KEY, "IN_PROGRESS", Duration.ofSeconds(60))).thenReturn(true);
+
+		ResponseEntity<Object> response = idempotencyService.execute(SCOPE, "retry-1",
+				() -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("failed"));
+
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+		verify(redisTemplate).delete(KEY);
+		verify(valueOperations, never()).set(eq(KEY), any(), any(Duration.class));
+	}
+
+	@Test
+	public void testExceptionReleasesKeyAndPropagates() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(KEY, "IN_PROGRESS", Duration.ofSeconds(60))).thenReturn(true);
+
+		assertThrows(IllegalStateException.class, () -> idempotencyService.execute(SCOPE, "retry-1", () -> {
+			throw new IllegalStateException("boom");
+		}));
+		verify(redisTemplate).delete(KEY);
+	}
+
+	@Test
+	public void testRedisDownRunsWrite() {
+		when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("connection refused"));
+
+		ResponseEntity<Object> response = idempotencyService.execute(SCOPE, "retry-1", this::apply);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(1, writes.get());
+	}
+
+	private ResponseEntity<?> apply() {
+		writes.incrementAndGet();
+		return ResponseEntity.ok("Job applied successfully");
+	}
+}
@@ -0,0 +1,51 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.talentstream.dto.JobCursor;
+import com.talentstream.exception.CustomException;
+
+public class JobCursorTest {
+
+	@Test
+	public void testRoundTrip() {
+		JobCursor cursor = JobCursor.decode(new JobCursor(LocalDate.of(2024, 8, 22), 42L).encode());
+		assertEquals(LocalDate.of(2024, 8, 22), cursor.getCreationDate());
+		assertEquals(Long.valueOf(42), cursor.getId());
+	}
+
+	@Test
+	public void testRoundTripWithoutCreationDate() {
+		JobCursor cursor = JobCursor.decode(new JobCursor(null, 7L).encode());
+		assertNull(cursor.getCreationDate());
+		assertEquals(Long.valueOf(7), cursor.getId());
+	}
+
+	@Test
+	public void testMissingTokenIsFirstPage() {
+		assertSame(JobCursor.FIRST, JobCursor.decode(null));
+		assertSame(JobCursor.FIRST, JobCursor.decode("  "));
+	}
+
+	@Test
+	public void testTokenIsUrlSafe() {
+		String token = new JobCursor(LocalDate.of(2025, 1, 3), Long.MAX_VALUE).encode();
+		assertEquals(token, token.replaceAll("[^A-Za-z0-9_-]", ""));
+	}
+
+	@Test
+	public void testRejectsForeignTokens() {
+		for (String token : new String[] { "not base64!", "bm9zZXBhcmF0b3I", "MjAyNC0xMy0wMTox", "MjAyNC0wMS0wMTp4" }) {
+			CustomException e = assertThrows(CustomException.class, () -> JobCursor.decode(token));
+			assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.talentstream.entity.Job;
+import com.talentstream.entity.JobSearchCriteria;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.service.JobIndexService;
+
+@ExtendWith(MockitoExtension.class)
+public class JobIndexServiceTest {
+
+	@Mock
+	private JobRepository jobRepository;
+
+	private JobIndexService jobIndexService;
+
+	@BeforeEach
+	public void setUp() {
+		jobIndexService = new JobIndexService(0.5, 0.2, 0.2, 0.1, 0.2);
+		ReflectionTestUtils.setField(jobIndexService, "jobRepository", jobRepository);
+	}
+
+	@Test
+	public void testSearchMatchesEveryCriterion() {
+		jobIndexService.index(job(1L, "Java Developer", "Hyderabad", "Full Time", "Java", "Spring"));
+		jobIndexService.index(job(2L, "Senior Java Developer", " hyderabad ", "Part Time", "Java"));
+		jobIndexService.index(job(3L, "Java Developer", "Chennai", "Full Time", "Java"));
+
+		JobSearchCriteria criteria = new JobSearchCriteria();
+		criteria.setJobTitle("developer java");
+		criteria.setLocation("HYDERABAD");
+		assertEquals(List.of(2L, 1L), jobIndexService.search(criteria));
+
+		criteria.setSkillName("spring");
+		assertEquals(List.of(1L), jobIndexService.search(criteria));
+	}
+
+	@Test
+	public void testInactiveJobsAreDropped() {
+		jobIndexService.index(job(1L, "Java Developer", "Hyderabad", "Full Time", "Java"));
+		Job inactive = job(1L, "Java Developer", "Hyderabad", "Full Time", "Java");
+		inactive.setStatus("inactive");
+		jobIndexService.index(inactive);
+
+		assertTrue(jobIndexService.search(new JobSearchCriteria()).isEmpty());
+	}
+
+	@Test
+	public void testFacetCountsLeaveOutTheirOwnFilter() {
+		jobIndexService.index(job(1L, "Java Developer", "Hyderabad", "Full Time", "Java", "Spring"));
+		jobIndexService.index(job(2L, "Java Developer", "Hyderabad", "Part Time", "Java"));
+		jobIndexService.index(job(3L, "Accountant", "Chennai", "Full Time", "Excel"));
+
+		JobSearchCriteria criteria = new JobSearchCriteria();
+		criteria.setLocation("Hyderabad");
+		Map<String, Map<String, Integer>> facets = jobIndexService.facetCounts(criteria, 1);
+
+		assertEquals(Map.of("hyderabad", 2, "chennai", 1), facets.get("location"));
+		assertEquals(Map.of("full time", 1, "part time", 1), facets.get("employeeType"));
+		// Only the most frequent skill among the Hyderabad jobs.
+		assertEquals(Map.of("java", 2), facets.get("skills"));
+	}
+
+	@Test
+	public void testRebuildKeepsWritesMadeWhileLoading() {
+		List<Object[]> staleRows = new ArrayList<>();
+		staleRows.add(row(1L, "Java Developer"));
+		staleRows.add(row(2L, "Python Developer"));
+		when(jobRepository.findActiveJobSkillRows()).thenReturn(new ArrayList<>());
+		when(jobRepository.findActiveJobIndexRows()).thenAnswer(invocation -> {
+			// Written through this instance after the rows were read.
+			jobIndexService.index(job(1L, "Kotlin Developer", "Hyderabad", "Full Time"));
+			Job closed = job(2L, "Python Developer", "Hyderabad", "Full Time");
+			closed.setStatus("inactive");
+			jobIndexService.index(closed);
+			return staleRows;
+		});
+
+		jobIndexService.rebuild();
+
+		assertTrue(jobIndexService.isReady());
+		JobSearchCriteria criteria = new JobSearchCriteria();
+		assertEquals(List.of(1L), jobIndexService.search(criteria));
+		criteria.setJobTitle("kotlin");
+		assertEquals(List.of(1L), jobIndexService.search(criteria));
+		criteria.setJobTitle("java");
+		assertTrue(jobIndexService.search(criteria).isEmpty());
+	}
+
+	private static Object[] row(Long id, String jobTitle) {
+		return new Object[] { id, LocalDate.of(2024, 8, 1), jobTitle, "Hyderabad", null, "Full Time", null, null, 0, 0,
+				0.0, 0.0 };
+	}
+
+	// Later ids are created later, so newest-first order is descending id.
+	private static Job job(Long id, String jobTitle, String location, String employeeType, String... skillNames) {
+		Job job = new Job();
+		job.setId(id);
+		job.setJobTitle(jobTitle);
+		job.setLocation(location);
+		job.setEmployeeType(employeeType);
+		job.setCreationDate(LocalDate.of(2024, 8, 1).plusDays(id));
+		Set<RecuriterSkills> skills = new HashSet<>();
+		for (String skillName : skillNames) {
+			RecuriterSkills skill = new RecuriterSkills();
+			skill.setSkillName(skillName);
+			skills.add(skill);
+		}
+		job.setSkillsRequired(skills);
+		return job;
+	}
+}
@@ -0,0 +1,209 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.talentstream.dto.JobIdPageDTO;
+import com.talentstream.entity.Job;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.search.IndexedJob;
+import com.talentstream.service.FuzzySkillMatchService;
+import com.talentstream.service.JobIndexService;
+import com.talentstream.service.JobSearchCacheService;
+
+@ExtendWith(MockitoExtension.class)
+public class JobSearchCacheServiceTest {
+
+	private static final LocalDate POSTED = LocalDate.of(2024, 3, 1);
+
+	@InjectMocks
+	private JobSearchCacheService jobSearchCacheService;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private ValueOperations<String, Object> valueOperations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private JobIndexService jobIndexService;
+
+	@Mock
+	private FuzzySkillMatchService fuzzySkillMatchService;
+
+	// Contents of Redis: plain values, and the cached page hashes by key.
+	private final Map<String, Object> values = new HashMap<>();
+	private final Map<String, Map<Object, Object>> pages = new HashMap<>();
+
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(jobSearchCacheService, "ttlSeconds", 3600L);
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		lenient().doAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1)))
+				.when(valueOperations).set(anyString(), any());
+		lenient().when(valueOperations.increment(anyString())).thenAnswer(invocation -> (Long) values
+				.merge(invocation.getArgument(0), 1L, (a, b) -> Long.parseLong(a.toString()) + 1));
+		lenient().when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+			List<Object> found = new ArrayList<>();
+			for (Object key : (Collection<?>) invocation.getArgument(0)) {
+				found.add(values.get(key));
+			}
+			return found;
+		});
+		lenient().when(hashOperations.get(anyString(), any())).thenAnswer(invocation -> pages
+				.getOrDefault(invocation.getArgument(0), new HashMap<>()).get(invocation.getArgument(1)));
+		lenient().doAnswer(invocation -> pages.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>())
+				.put(invocation.getArgument(1), invocation.getArgument(2)))
+				.when(hashOperations).put(anyString(), any(), any());
+	}
+
+	@Test
+	public void testJobSaveBumpsExactlyItsOldAndNewSkills() {
+		IndexedJob previous = IndexedJob.from(job(1L, POSTED, "Java", "SQL"));
+
+		jobSearchCacheService.onJobChanged(previous, job(1L, POSTED, "java", "Python"), false);
+
+		assertEquals(Set.of("jobSearch:generation:java", "jobSearch:generation:sql",
+				"jobSearch:generation:python"), generationKeys());
+		assertEquals(1L, values.get("jobSearch:generation:java"));
+	}
+
+	@Test
+	public void testDescriptionOnlyEditDoesNotBump() {
+		Job job = job(1L, POSTED, "Java", "SQL");
+		IndexedJob previous = IndexedJob.from(job);
+		job.setDescription("Now with more detail");
+
+		jobSearchCacheService.onJobChanged(previous, job, false);
+
+		assertEquals(Set.of(), generationKeys());
+	}
+
+	@Test
+	public void testPageIsNotStoredWhileTheLocalIndexIsBehind() {
+		// Another instance saved a Java job after this instance's index loaded.
+		values.put("jobSearch:generation:java", 1L);
+		values.put("jobSearch:bumped:java", 2000L);
+		when(jobIndexService.loadedSince()).thenReturn(1000L);
+		AtomicInteger loads = new AtomicInteger();
+
+		search(List.of("Java"), loads);
+		search(List.of("Java"), loads);
+		assertEquals(2, loads.get());
+		assertEquals(Map.of(), pages);
+
+		// Once the index has been rebuilt since that write, pages are cached.
+		when(jobIndexService.loadedSince()).thenReturn(3000L);
+		search(List.of("Java"), loads);
+		search(List.of(" JAVA "), loads);
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	public void testLocalWriteMakesTheNewGenerationCacheable() {
+		jobSearchCacheService.onJobChanged(null, job(1L, POSTED, "Java"), false);
+		AtomicInteger loads = new AtomicInteger();
+
+		search(List.of("Java"), loads);
+		search(List.of("Java"), loads);
+
+		assertEquals(1, loads.get());
+		assertEquals(Set.of("jobSearch:skills:java@1|v0"), pages.keySet());
+	}
+
+	@Test
+	public void testVocabularyBumpInvalidatesEveryKey() {
+		values.put("jobSearch:generation:python", 1L);
+		values.put("jobSearch:bumped:python", 100L);
+		when(jobIndexService.loadedSince()).thenReturn(1000L);
+		AtomicInteger loads = new AtomicInteger();
+		search(List.of("Java"), loads);
+		search(List.of("Python", "SQL"), loads);
+		assertEquals(Set.of("jobSearch:skills:java@0|v0", "jobSearch:skills:python@1,sql@0|v0"), pages.keySet());
+
+		// A job with a skill the typo matcher did not know yet.
+		jobSearchCacheService.onJobChanged(null, job(2L, POSTED, "Kotlin"), true);
+		search(List.of("Java"), loads);
+		search(List.of("Python", "SQL"), loads);
+
+		assertEquals(4, loads.get());
+		assertEquals(1L, values.get("jobSearch:vocabulary:generation"));
+	}
+
+	@Test
+	public void testRedisFailureFallsBackToTheLoader() {
+		when(valueOperations.multiGet(anyCollection())).thenThrow(new RedisConnectionFailureException("down"));
+		JobIdPageDTO page = new JobIdPageDTO(List.of(5L), 1);
+
+		assertSame(page, jobSearchCacheService.getOrLoad(List.of("Java"), PageRequest.of(0, 10), () -> page));
+
+		// Invalidation failures are logged, never thrown to the job save.
+		doThrow(new RedisConnectionFailureException("down")).when(valueOperations).set(anyString(), any());
+		jobSearchCacheService.onJobChanged(null, job(1L, POSTED, "Java"), true);
+	}
+
+	private JobIdPageDTO search(List<String> skills, AtomicInteger loads) {
+		return jobSearchCacheService.getOrLoad(skills, PageRequest.of(0, 10), () -> {
+			loads.incrementAndGet();
+			return new JobIdPageDTO(List.of(1L), 1);
+		});
+	}
+
+	private Set<String> generationKeys() {
+		Set<String> keys = new HashSet<>();
+		for (String key : values.keySet()) {
+			if (key.startsWith("jobSearch:generation:")) {
+				keys.add(key);
+			}
+		}
+		return keys;
+	}
+
+	private static Job job(Long id, LocalDate creationDate, String... skillNames) {
+		Job job = new Job();
+		job.setId(id);
+		job.setCreationDate(creationDate);
+		job.setStatus("active");
+		Set<RecuriterSkills> skills = new HashSet<>();
+		for (String skillName : skillNames) {
+			RecuriterSkills skill = new RecuriterSkills();
+			skill.setSkillName(skillName);
+			skills.add(skill);
+		}
+		job.setSkillsRequired(skills);
+		return job;
+	}
+}
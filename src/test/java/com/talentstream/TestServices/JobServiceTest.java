@@ -0,0 +1,67 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.talentstream.dto.JobKeywordSearchResultDTO;
+import com.talentstream.exception.CustomException;
+import com.talentstream.repository.JobRepository;
+import com.talentstream.service.JobService;
+
+@ExtendWith(MockitoExtension.class)
+public class JobServiceTest {
+
+	@InjectMocks
+	private JobService jobService;
+
+	@Mock
+	private JobRepository jobRepository;
+
+	@Test
+	public void testKeywordSearchPassesTheTrimmedQueryAndPageWindow() {
+		List<JobKeywordSearchResultDTO> results = List.of(mock(JobKeywordSearchResultDTO.class));
+		when(jobRepository.searchByKeywords("java developer", 10, 20)).thenReturn(results);
+
+		assertSame(results, jobService.searchJobsByKeywords("  java developer ", 2, 10));
+	}
+
+	@Test
+	public void testKeywordSearchRejectsBadRequests() {
+		for (String query : new String[] { null, "", "   " }) {
+			CustomException e = assertThrows(CustomException.class,
+					() -> jobService.searchJobsByKeywords(query, 0, 10));
+			assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+		}
+		assertEquals(HttpStatus.BAD_REQUEST,
+				assertThrows(CustomException.class, () -> jobService.searchJobsByKeywords("java", -1, 10))
+						.getStatus());
+		assertEquals(HttpStatus.BAD_REQUEST,
+				assertThrows(CustomException.class, () -> jobService.searchJobsByKeywords("java", 0, 0)).getStatus());
+		verifyNoInteractions(jobRepository);
+	}
+
+	@Test
+	public void testKeywordSearchFailureIsReportedAsServerError() {
+		when(jobRepository.searchByKeywords(anyString(), anyInt(), anyInt()))
+				.thenThrow(new IllegalStateException("syntax error in tsquery"));
+
+		CustomException e = assertThrows(CustomException.class,
+				() -> jobService.searchJobsByKeywords("java", 0, 10));
+		assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, e.getStatus());
+	}
+}
@@ -0,0 +1,85 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.talentstream.entity.Location;
+import com.talentstream.repository.LocationRepository;
+import com.talentstream.service.LocationProximityService;
+
+@ExtendWith(MockitoExtension.class)
+public class LocationProximityServiceTest {
+
+	@InjectMocks
+	private LocationProximityService locationProximityService;
+
+	@Mock
+	private LocationRepository locationRepository;
+
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(locationProximityService, "radiusKm", 30.0);
+		when(locationRepository.findAll()).thenReturn(List.of(
+				location("Hyderabad", "Hyderabad", "Telangana", 17.3850, 78.4867),
+				location("Secunderabad", "Hyderabad", "Telangana", 17.4399, 78.4983),
+				location("Warangal", "Warangal", "Telangana", 17.9689, 79.5941),
+				location("Chennai", "Chennai", "Tamil Nadu", 13.0827, 80.2707),
+				location("Tambaram", "Chengalpattu", "Tamil Nadu", 12.9249, 80.1000)));
+		locationProximityService.reload();
+	}
+
+	@Test
+	public void testCityExpandsToItsDistrictAndNearbyCities() {
+		Set<String> hyderabad = locationProximityService.expandPreferredLocations(List.of("Hyderabad"));
+		assertEquals(Set.of("hyderabad", "secunderabad"), hyderabad);
+
+		// About 25 km away, but in another district.
+		Set<String> chennai = locationProximityService.expandPreferredLocations(List.of(" CHENNAI "));
+		assertEquals(Set.of("chennai", "tambaram"), chennai);
+	}
+
+	@Test
+	public void testStateMatchesAllOfItsCities() {
+		assertEquals(Set.of("telangana", "hyderabad", "secunderabad", "warangal"),
+				locationProximityService.expandPreferredLocations(List.of("Telangana")));
+	}
+
+	@Test
+	public void testCityWithStateSuffixIsLookedUpByCity() {
+		Set<String> expanded = locationProximityService.expandPreferredLocations(List.of("Hyderabad, Telangana"));
+		assertTrue(expanded.contains("secunderabad"));
+		assertFalse(expanded.contains("warangal"));
+	}
+
+	@Test
+	public void testUnknownNamesAreKeptAndResultIsNeverEmpty() {
+		assertEquals(Set.of("pune"), locationProximityService.expandPreferredLocations(List.of(" Pune ")));
+		assertEquals(Set.of(""), locationProximityService.expandPreferredLocations(List.of("  ")));
+		assertEquals(Set.of(""), locationProximityService.expandPreferredLocations(null));
+	}
+
+	private static Location location(String city, String district, String state, double latitude,
+			double longitude) {
+		Location location = new Location();
+		location.setCity(city);
+		location.setNormalizedCity(city.toLowerCase());
+		location.setDistrict(district);
+		location.setState(state);
+		location.setLatitude(latitude);
+		location.setLongitude(longitude);
+		return location;
+	}
+}
@@ -0,0 +1,72 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.talentstream.search.MinHashLsh;
+
+public class MinHashLshTest {
+
+	private static final List<String> JAVA_BACKEND = List.of("java", "spring", "hibernate", "sql", "backend", "developer");
+
+	private MinHashLsh lsh;
+
+	@BeforeEach
+	public void setUp() {
+		lsh = new MinHashLsh();
+		lsh.put(0, JAVA_BACKEND);
+		lsh.put(1, List.of("java", "spring", "hibernate", "sql", "backend", "engineer"));
+		lsh.put(2, List.of("photoshop", "illustrator", "figma", "designer"));
+	}
+
+	@Test
+	public void testSignatureIsDeterministic() {
+		int[] signature = MinHashLsh.signature(JAVA_BACKEND);
+		assertEquals(1.0, MinHashLsh.similarity(signature, MinHashLsh.signature(JAVA_BACKEND)), 0.0);
+		assertNull(MinHashLsh.signature(List.of()));
+	}
+
+	@Test
+	public void testSimilarityEstimatesJaccard() {
+		// Jaccard 5/7 for the two backend jobs, 0 against the design job.
+		double similar = MinHashLsh.similarity(lsh.signatureOf(0), lsh.signatureOf(1));
+		double unrelated = MinHashLsh.similarity(lsh.signatureOf(0), lsh.signatureOf(2));
+		assertTrue(similar > 0.5, "similarity was " + similar);
+		assertTrue(unrelated < 0.2, "similarity was " + unrelated);
+	}
+
+	@Test
+	public void testCandidatesShareABand() {
+		Set<Integer> candidates = lsh.candidates(MinHashLsh.signature(JAVA_BACKEND));
+		assertTrue(candidates.contains(0));
+		assertTrue(candidates.contains(1));
+		assertFalse(candidates.contains(2));
+	}
+
+	@Test
+	public void testRemoveAndReplace() {
+		lsh.remove(0);
+		assertNull(lsh.signatureOf(0));
+		assertFalse(lsh.candidates(MinHashLsh.signature(JAVA_BACKEND)).contains(0));
+
+		lsh.put(1, List.of("photoshop", "illustrator", "figma", "designer"));
+		assertFalse(lsh.candidates(MinHashLsh.signature(JAVA_BACKEND)).contains(1));
+		assertTrue(lsh.candidates(lsh.signatureOf(2)).contains(1));
+	}
+
+	@Test
+	public void testEmptyTokensAreNotIndexed() {
+		lsh.put(3, List.of());
+		assertNull(lsh.signatureOf(3));
+		lsh.clear();
+		assertTrue(lsh.candidates(MinHashLsh.signature(JAVA_BACKEND)).isEmpty());
+	}
+}
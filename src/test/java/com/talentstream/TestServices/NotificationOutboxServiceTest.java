@@ -0,0 +1,157 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.talentstream.entity.NotificationOutbox;
+import com.talentstream.repository.NotificationOutboxRepository;
+import com.talentstream.service.ApplyJobEventService;
+import com.talentstream.service.NotificationOutboxService;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationOutboxServiceTest {
+
+	@InjectMocks
+	private NotificationOutboxService notificationOutboxService;
+
+	@Mock
+	private NotificationOutboxRepository notificationOutboxRepository;
+
+	@Mock
+	private ApplyJobEventService applyJobEventService;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(notificationOutboxService, "batchSize", 50);
+		ReflectionTestUtils.setField(notificationOutboxService, "maxAttempts", 8);
+		ReflectionTestUtils.setField(notificationOutboxService, "backoffBaseSeconds", 30L);
+	}
+
+	@Test
+	public void testDeliveredNotificationIsSentOnce() throws Exception {
+		NotificationOutbox notification = claim(notification(1L, 0, false));
+
+		notificationOutboxService.dispatch();
+
+		verify(applyJobEventService).createAlert(10L, 20L, "Shortlisted", "Acme", "Java Developer");
+		verify(applyJobEventService).sendEmailToApplicant("applicant@example.com", "Acme", "Shortlisted",
+				"Java Developer");
+		assertEquals(NotificationOutbox.SENT, notification.getState());
+		assertEquals(1, notification.getAttempts());
+		verify(notificationOutboxRepository).save(notification);
+	}
+
+	@Test
+	public void testRetryDoesNotCreateTheAlertAgain() throws Exception {
+		NotificationOutbox notification = claim(notification(1L, 1, true));
+
+		notificationOutboxService.dispatch();
+
+		verify(applyJobEventService, never()).createAlert(anyLong(), anyLong(), anyString(), anyString(),
+				anyString());
+		assertEquals(NotificationOutbox.SENT, notification.getState());
+		assertEquals(2, notification.getAttempts());
+		assertNull(notification.getLastError());
+	}
+
+	@Test
+	public void testFailureIsRetriedWithExponentialBackoff() throws Exception {
+		NotificationOutbox notification = claim(notification(1L, 2, false));
+		doThrow(new IllegalStateException("SMTP unavailable")).when(applyJobEventService)
+				.sendEmailToApplicant(anyString(), anyString(), anyString(), anyString());
+		LocalDateTime before = LocalDateTime.now();
+
+		notificationOutboxService.dispatch();
+
+		assertEquals(NotificationOutbox.PENDING, notification.getState());
+		assertEquals(3, notification.getAttempts());
+		assertEquals("SMTP unavailable", notification.getLastError());
+		// The alert was created before the email failed, so it is not repeated.
+		assertTrue(notification.isAlertCreated());
+		// Third attempt: 30 s << 2.
+		assertBetween(before.plusSeconds(120), notification.getNextAttemptAt(), 5);
+	}
+
+	@Test
+	public void testBackoffIsCappedAtOneDay() throws Exception {
+		ReflectionTestUtils.setField(notificationOutboxService, "maxAttempts", 30);
+		NotificationOutbox notification = claim(notification(1L, 14, true));
+		doThrow(new IllegalStateException("SMTP unavailable")).when(applyJobEventService)
+				.sendEmailToApplicant(anyString(), anyString(), anyString(), anyString());
+		LocalDateTime before = LocalDateTime.now();
+
+		notificationOutboxService.dispatch();
+
+		assertBetween(before.plusDays(1), notification.getNextAttemptAt(), 5);
+	}
+
+	@Test
+	public void testNotificationFailsAfterMaxAttempts() throws Exception {
+		NotificationOutbox notification = claim(notification(1L, 7, false));
+		LocalDateTime nextAttemptAt = notification.getNextAttemptAt();
+		doThrow(new IllegalStateException("no such recipient")).when(applyJobEventService)
+				.createAlert(anyLong(), anyLong(), anyString(), anyString(), anyString());
+
+		notificationOutboxService.dispatch();
+
+		assertEquals(NotificationOutbox.FAILED, notification.getState());
+		assertEquals(8, notification.getAttempts());
+		assertEquals(nextAttemptAt, notification.getNextAttemptAt());
+		verify(applyJobEventService, never()).sendEmailToApplicant(anyString(), anyString(), anyString(),
+				anyString());
+		verify(notificationOutboxRepository).save(notification);
+	}
+
+	private NotificationOutbox claim(NotificationOutbox notification) {
+		when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any(), eq(50)))
+				.thenReturn(List.of(notification.getId()));
+		when(notificationOutboxRepository.findAllById(List.of(notification.getId())))
+				.thenReturn(List.of(notification));
+		return notification;
+	}
+
+	private static NotificationOutbox notification(Long id, int attempts, boolean alertCreated) {
+		NotificationOutbox notification = new NotificationOutbox();
+		notification.setId(id);
+		notification.setApplyJobId(10L);
+		notification.setApplicantId(20L);
+		notification.setRecipientEmail("applicant@example.com");
+		notification.setCompanyName("Acme");
+		notification.setJobTitle("Java Developer");
+		notification.setApplicantStatus("Shortlisted");
+		notification.setState(NotificationOutbox.PENDING);
+		notification.setAttempts(attempts);
+		notification.setAlertCreated(alertCreated);
+		notification.setNextAttemptAt(LocalDateTime.of(2024, 3, 1, 9, 0));
+		return notification;
+	}
+
+	private static void assertBetween(LocalDateTime expected, LocalDateTime actual, long toleranceSeconds) {
+		assertTrue(!actual.isBefore(expected) && !actual.isAfter(expected.plusSeconds(toleranceSeconds)),
+				"expected about " + expected + " but was " + actual);
+	}
+}
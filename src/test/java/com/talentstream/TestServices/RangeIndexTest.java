@@ -0,0 +1,64 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.talentstream.search.RangeIndex;
+
+public class RangeIndexTest {
+
+	private RangeIndex rangeIndex;
+
+	@BeforeEach
+	public void setUp() {
+		rangeIndex = new RangeIndex();
+		rangeIndex.add(0, 0, 2);
+		rangeIndex.add(1, 3, 5);
+		rangeIndex.add(2, 5, 10);
+	}
+
+	@Test
+	public void testOverlappingClosedRange() {
+		assertEquals(bits(1, 2), rangeIndex.overlapping(4.0, 6.0));
+	}
+
+	@Test
+	public void testBoundsAreInclusive() {
+		assertEquals(bits(0, 1), rangeIndex.overlapping(2.0, 3.0));
+	}
+
+	@Test
+	public void testOpenBounds() {
+		assertEquals(bits(0, 1), rangeIndex.overlapping(null, 4.0));
+		assertEquals(bits(2), rangeIndex.overlapping(6.0, null));
+		assertNull(rangeIndex.overlapping(null, null));
+	}
+
+	@Test
+	public void testReversedRangeIsSingleValue() {
+		rangeIndex.add(3, 7, 1);
+		assertEquals(bits(2, 3), rangeIndex.overlapping(7.0, 7.0));
+		assertEquals(bits(0, 1), rangeIndex.overlapping(1.0, 4.0));
+	}
+
+	@Test
+	public void testRemove() {
+		rangeIndex.remove(1, 3, 5);
+		assertEquals(bits(2), rangeIndex.overlapping(4.0, 6.0));
+		rangeIndex.clear();
+		assertEquals(bits(), rangeIndex.overlapping(0.0, 100.0));
+	}
+
+	private static BitSet bits(int... docIds) {
+		BitSet bits = new BitSet();
+		for (int docId : docIds) {
+			bits.set(docId);
+		}
+		return bits;
+	}
+}
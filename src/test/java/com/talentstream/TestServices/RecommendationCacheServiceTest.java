@@ -0,0 +1,99 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.talentstream.dto.JobDTO;
+import com.talentstream.service.RecommendationCacheService;
+
+@ExtendWith(MockitoExtension.class)
+public class RecommendationCacheServiceTest {
+
+	@InjectMocks
+	private RecommendationCacheService recommendationCacheService;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	// Contents of the page hashes, by hash key.
+	private final Map<String, Map<Object, Object>> hashes = new HashMap<>();
+
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(recommendationCacheService, "ttlSeconds", 3600L);
+		lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		lenient().when(hashOperations.get(anyString(), any())).thenAnswer(invocation -> hashes
+				.getOrDefault(invocation.getArgument(0), new HashMap<>()).get(invocation.getArgument(1)));
+		lenient().doAnswer(invocation -> hashes.computeIfAbsent(invocation.getArgument(0), key -> new HashMap<>())
+				.put(invocation.getArgument(1), invocation.getArgument(2)))
+				.when(hashOperations).put(anyString(), any(), any());
+	}
+
+	@Test
+	public void testEveryPageAndSizeIsCachedSeparately() {
+		AtomicInteger loads = new AtomicInteger();
+
+		List<JobDTO> first = load(7L, 0, 10, loads);
+		assertSame(first, load(7L, 0, 10, loads));
+		load(7L, 1, 10, loads);
+		load(7L, 0, 20, loads);
+		load(8L, 0, 10, loads);
+
+		assertEquals(4, loads.get());
+		assertSame(first, hashes.get("recommendedJobs:7").get("0:10"));
+		assertEquals(3, hashes.get("recommendedJobs:7").size());
+	}
+
+	@Test
+	public void testEvictDropsAllPagesOfTheApplicantsAtOnce() {
+		recommendationCacheService.evict(List.of(7L, 8L));
+		verify(redisTemplate).delete(List.of("recommendedJobs:7", "recommendedJobs:8"));
+
+		recommendationCacheService.evict(List.of());
+		verifyNoMoreInteractions(redisTemplate);
+	}
+
+	@Test
+	public void testRedisFailureFallsBackToTheLoader() {
+		when(hashOperations.get(anyString(), any())).thenThrow(new RedisConnectionFailureException("down"));
+		List<JobDTO> jobs = List.of(new JobDTO());
+
+		assertSame(jobs, recommendationCacheService.getOrLoad(7L, 0, 10, () -> jobs));
+
+		// Eviction failures are logged; the writes that trigger them still succeed.
+		when(redisTemplate.delete(List.of("recommendedJobs:7"))).thenThrow(new RedisConnectionFailureException("down"));
+		recommendationCacheService.evict(List.of(7L));
+	}
+
+	private List<JobDTO> load(long applicantId, int page, int size, AtomicInteger loads) {
+		return recommendationCacheService.getOrLoad(applicantId, page, size, () -> {
+			loads.incrementAndGet();
+			return List.of(new JobDTO());
+		});
+	}
+}
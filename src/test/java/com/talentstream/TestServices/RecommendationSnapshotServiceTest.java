@@ -0,0 +1,129 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.talentstream.entity.ApplicantRecommendation;
+import com.talentstream.repository.ApplicantProfileRepository;
+import com.talentstream.repository.ApplicantRecommendationRepository;
+import com.talentstream.repository.ApplyJobRepository;
+import com.talentstream.repository.SavedJobRepository;
+import com.talentstream.search.ApplicantCriteria;
+import com.talentstream.service.FuzzySkillMatchService;
+import com.talentstream.service.JobIndexService;
+import com.talentstream.service.LocationProximityService;
+import com.talentstream.service.RecommendationSnapshotService;
+
+@ExtendWith(MockitoExtension.class)
+public class RecommendationSnapshotServiceTest {
+
+	@InjectMocks
+	private RecommendationSnapshotService recommendationSnapshotService;
+
+	@Mock
+	private ApplicantProfileRepository applicantProfileRepository;
+
+	@Mock
+	private ApplyJobRepository applyJobRepository;
+
+	@Mock
+	private SavedJobRepository savedJobRepository;
+
+	@Mock
+	private ApplicantRecommendationRepository applicantRecommendationRepository;
+
+	@Mock
+	private JobIndexService jobIndexService;
+
+	@Mock
+	private FuzzySkillMatchService fuzzySkillMatchService;
+
+	@Mock
+	private LocationProximityService locationProximityService;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private CacheManager cacheManager;
+
+	@BeforeEach
+	public void setUp() {
+		ReflectionTestUtils.setField(recommendationSnapshotService, "topN", 200);
+	}
+
+	@Test
+	public void testStoredSnapshotIsReadWithoutRanking() {
+		ApplicantRecommendation snapshot = new ApplicantRecommendation();
+		snapshot.setApplicantId(7L);
+		snapshot.setJobIds("5,3,9");
+		when(applicantRecommendationRepository.findById(7L)).thenReturn(Optional.of(snapshot));
+
+		assertEquals(Optional.of(List.of(5L, 3L, 9L)), recommendationSnapshotService.recommendedJobIds(7L));
+		verifyNoInteractions(jobIndexService, jdbcTemplate);
+	}
+
+	@Test
+	public void testNoSnapshotWhileTheJobIndexIsBuilding() {
+		when(applicantRecommendationRepository.findById(7L)).thenReturn(Optional.empty());
+		when(jobIndexService.isReady()).thenReturn(false);
+
+		assertEquals(Optional.empty(), recommendationSnapshotService.recommendedJobIds(7L));
+		verifyNoInteractions(applicantProfileRepository, jdbcTemplate);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMissingSnapshotIsComputedWithoutAppliedOrSavedJobsAndStored() {
+		when(applicantRecommendationRepository.findById(7L)).thenReturn(Optional.empty());
+		when(jobIndexService.isReady()).thenReturn(true);
+		when(applicantProfileRepository.findRecommendationProfileRowsByApplicantIds(List.of(7L)))
+				.thenReturn(List.<Object[]>of(new Object[] { 7L, " 3 ", "Computer Science", "B.Tech" }));
+		when(applyJobRepository.findJobIdRowsByApplicantIds(List.of(7L)))
+				.thenReturn(List.<Object[]>of(new Object[] { 7L, 11L }));
+		when(savedJobRepository.findJobIdRowsByApplicantIds(List.of(7L)))
+				.thenReturn(List.<Object[]>of(new Object[] { 7L, 12L }));
+		ArgumentCaptor<ApplicantCriteria> criteria = ArgumentCaptor.forClass(ApplicantCriteria.class);
+		when(jobIndexService.recommend(criteria.capture(), eq(Set.of(11L, 12L)), eq(200)))
+				.thenReturn(List.of(4L, 2L));
+
+		assertEquals(Optional.of(List.of(4L, 2L)), recommendationSnapshotService.recommendedJobIds(7L));
+
+		assertEquals(3, criteria.getValue().getExperience());
+		assertEquals("computer science", criteria.getValue().getSpecialization());
+		ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+		assertEquals(1, rows.getValue().size());
+		Object[] row = rows.getValue().get(0);
+		assertArrayEquals(new Object[] { 7L, "4,2" }, new Object[] { row[0], row[1] });
+	}
+
+	@Test
+	public void testInvalidateDropsTheSnapshot() {
+		when(applicantRecommendationRepository.existsById(7L)).thenReturn(true);
+
+		recommendationSnapshotService.invalidate(7L);
+
+		verify(applicantRecommendationRepository).deleteById(7L);
+	}
+}
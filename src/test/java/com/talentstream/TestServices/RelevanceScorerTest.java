@@ -0,0 +1,56 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.talentstream.search.RelevanceScorer;
+
+public class RelevanceScorerTest {
+
+	private final RelevanceScorer scorer = new RelevanceScorer(0.5, 0.2, 0.2, 0.1);
+
+	@Test
+	public void testSkillShareFromBitsets() {
+		// Job requires skills 0, 1, 65 and 66; the applicant has 0 and 65.
+		long[] job = { 0b11L, 0b110L };
+		long[] applicant = { 0b1L, 0b10L, 0b1L };
+		assertEquals(0.25, scorer.score(applicant, job, false, 0, false), 1e-9);
+	}
+
+	@Test
+	public void testAllComponents() {
+		long[] skills = { 0b1011L };
+		assertEquals(1.0, scorer.score(skills, skills, true, 1, true), 1e-9);
+		assertEquals(0.3, scorer.score(new long[0], skills, true, 0.5, false), 1e-9);
+	}
+
+	@Test
+	public void testJobWithoutSkills() {
+		assertEquals(0.1, scorer.score(new long[] { 0b1L }, new long[0], false, 0, true), 1e-9);
+	}
+
+	@Test
+	public void testQualificationWeight() {
+		RelevanceScorer withQualification = new RelevanceScorer(0.4, 0.2, 0.2, 0.1, 0.1);
+		assertEquals(0.5, withQualification.score(1.0, false, 0, false, true), 1e-9);
+	}
+
+	@Test
+	public void testExperienceFit() {
+		assertEquals(1.0, RelevanceScorer.experienceFit(3, 2, 5), 1e-9);
+		assertEquals(1.0, RelevanceScorer.experienceFit(5, 2, 5), 1e-9);
+		assertEquals(2.0 / 3, RelevanceScorer.experienceFit(6, 2, 5), 1e-9);
+		assertEquals(1.0 / 3, RelevanceScorer.experienceFit(0, 2, 5), 1e-9);
+		assertEquals(0.0, RelevanceScorer.experienceFit(8, 2, 5), 1e-9);
+		assertEquals(0.0, RelevanceScorer.experienceFit(null, 2, 5), 1e-9);
+		// A reversed range counts as its minimum.
+		assertEquals(2.0 / 3, RelevanceScorer.experienceFit(4, 3, 1), 1e-9);
+	}
+
+	@Test
+	public void testCounts() {
+		assertEquals(4, RelevanceScorer.popcount(new long[] { 0b101L, 0b11L }));
+		assertEquals(1, RelevanceScorer.intersectionCount(new long[] { 0b101L, 0b11L }, new long[] { 0b100L }));
+	}
+}
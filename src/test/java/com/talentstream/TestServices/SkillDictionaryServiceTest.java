@@ -0,0 +1,129 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.talentstream.entity.ApplicantSkills;
+import com.talentstream.entity.RecuriterSkills;
+import com.talentstream.entity.Skill;
+import com.talentstream.repository.RecuriterSkillsRepository;
+import com.talentstream.repository.SkillRepository;
+import com.talentstream.service.SkillDictionaryService;
+
+@ExtendWith(MockitoExtension.class)
+public class SkillDictionaryServiceTest {
+
+	@InjectMocks
+	private SkillDictionaryService skillDictionaryService;
+
+	@Mock
+	private SkillRepository skillRepository;
+
+	@Mock
+	private RecuriterSkillsRepository recuriterSkillsRepository;
+
+	@Test
+	public void testNewSkillIsCreatedOnceUnderItsNormalizedName() {
+		when(skillRepository.findByNormalizedName("spring boot")).thenReturn(Optional.empty());
+		when(skillRepository.save(any(Skill.class))).thenAnswer(invocation -> {
+			Skill saved = invocation.getArgument(0);
+			saved.setId(7);
+			return saved;
+		});
+
+		Skill skill = skillDictionaryService.resolve("  Spring   Boot ");
+		assertEquals("spring boot", skill.getNormalizedName());
+		assertEquals("Spring   Boot", skill.getDisplayName());
+
+		// Later lookups of any spelling hit the in-memory id.
+		Skill reference = new Skill();
+		when(skillRepository.getReferenceById(7)).thenReturn(reference);
+		assertSame(reference, skillDictionaryService.resolve("SPRING BOOT"));
+		verify(skillRepository, times(1)).save(any(Skill.class));
+	}
+
+	@Test
+	public void testConcurrentCreateReusesTheWinner() {
+		Skill winner = skill(3, "java");
+		when(skillRepository.findByNormalizedName("java")).thenReturn(Optional.empty(), Optional.of(winner));
+		when(skillRepository.save(any(Skill.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+		assertSame(winner, skillDictionaryService.resolve("Java"));
+	}
+
+	@Test
+	public void testBlankNameHasNoSkill() {
+		assertNull(skillDictionaryService.resolve("   "));
+		verifyNoInteractions(skillRepository);
+	}
+
+	@Test
+	public void testJobSkillRowIsSharedPerCanonicalSkill() {
+		Skill java = skill(3, "java");
+		RecuriterSkills shared = new RecuriterSkills();
+		when(skillRepository.findByNormalizedName("java")).thenReturn(Optional.of(java));
+		when(skillRepository.getReferenceById(3)).thenReturn(java);
+		when(recuriterSkillsRepository.findFirstByCanonicalSkillOrderByIdAsc(java))
+				.thenReturn(Optional.of(shared), Optional.empty());
+
+		assertSame(shared, skillDictionaryService.recruiterSkillFor("Java"));
+
+		RecuriterSkills created = skillDictionaryService.recruiterSkillFor("java");
+		assertEquals("java", created.getSkillName());
+		assertSame(java, created.getCanonicalSkill());
+	}
+
+	@Test
+	public void testApplicantSkillsAreOnlyLinked() {
+		Skill java = skill(3, "java");
+		when(skillRepository.findByNormalizedName("java")).thenReturn(Optional.of(java));
+		ApplicantSkills unlinked = new ApplicantSkills();
+		unlinked.setSkillName("Java");
+		ApplicantSkills linked = new ApplicantSkills();
+		linked.setSkillName("Python");
+		Skill python = skill(4, "python");
+		linked.setCanonicalSkill(python);
+
+		skillDictionaryService.link(List.of(unlinked, linked));
+
+		assertSame(java, unlinked.getCanonicalSkill());
+		assertSame(python, linked.getCanonicalSkill());
+		verify(skillRepository, never()).findByNormalizedName("python");
+	}
+
+	@Test
+	public void testIdsOfSkipsUnknownNamesButIsNeverEmpty() {
+		when(skillRepository.findByNormalizedName("java")).thenReturn(Optional.of(skill(3, "java")));
+		when(skillRepository.findByNormalizedName("cobol")).thenReturn(Optional.empty());
+
+		assertEquals(Set.of(3), skillDictionaryService.idsOf(Arrays.asList(" Java", "COBOL", "", null)));
+		// The nothing-matched placeholder is an id no skill has.
+		assertEquals(Set.of(0), skillDictionaryService.idsOf(List.of("cobol")));
+	}
+
+	private static Skill skill(int id, String normalizedName) {
+		Skill skill = new Skill();
+		skill.setId(id);
+		skill.setNormalizedName(normalizedName);
+		return skill;
+	}
+}
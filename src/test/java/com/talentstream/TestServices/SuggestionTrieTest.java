@@ -0,0 +1,64 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.talentstream.search.SuggestionTrie;
+
+public class SuggestionTrieTest {
+
+	private SuggestionTrie suggestionTrie;
+
+	@BeforeEach
+	public void setUp() {
+		suggestionTrie = new SuggestionTrie();
+		suggestionTrie.add("Java", 5);
+		suggestionTrie.add("JavaScript", 8);
+		suggestionTrie.add("Jakarta EE", 1);
+		suggestionTrie.add("Python", 3);
+	}
+
+	@Test
+	public void testHeaviestCompletionsComeFirst() {
+		assertEquals(List.of("JavaScript", "Java", "Jakarta EE"), suggestionTrie.suggest("ja", 10));
+		assertEquals(List.of("JavaScript", "Java"), suggestionTrie.suggest("ja", 2));
+		assertEquals(List.of("JavaScript"), suggestionTrie.suggest("java", 1));
+		assertEquals(List.of("Python"), suggestionTrie.suggest("py", 10));
+	}
+
+	@Test
+	public void testPrefixIsNormalizedAndFirstLabelIsKept() {
+		suggestionTrie.add("  JAVA ", 10);
+
+		assertEquals(List.of("Java", "JavaScript"), suggestionTrie.suggest(" JA", 2));
+		assertEquals(List.of("Jakarta EE"), suggestionTrie.suggest("jakarta   e", 5));
+		assertEquals(4, suggestionTrie.size());
+	}
+
+	@Test
+	public void testTermsDropOutWhenTheirWeightReachesZero() {
+		suggestionTrie.add("JavaScript", -8);
+
+		assertEquals(List.of("Java", "Jakarta EE"), suggestionTrie.suggest("ja", 10));
+		assertEquals(3, suggestionTrie.size());
+
+		// Removing more than is left, or a term never added, changes nothing else.
+		suggestionTrie.add("Python", -10);
+		suggestionTrie.add("Rust", -1);
+		assertTrue(suggestionTrie.suggest("p", 10).isEmpty());
+		assertEquals(2, suggestionTrie.size());
+	}
+
+	@Test
+	public void testNoSuggestions() {
+		assertTrue(suggestionTrie.suggest("rust", 10).isEmpty());
+		assertTrue(suggestionTrie.suggest("   ", 10).isEmpty());
+		assertTrue(suggestionTrie.suggest(null, 10).isEmpty());
+		assertTrue(suggestionTrie.suggest("ja", 0).isEmpty());
+	}
+}
@@ -0,0 +1,68 @@
+package com.talentstream.TestServices;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.talentstream.search.TrigramIndex;
+
+public class TrigramIndexTest {
+
+	private TrigramIndex trigramIndex;
+
+	@BeforeEach
+	public void setUp() {
+		trigramIndex = new TrigramIndex();
+		for (String skill : List.of("JavaScript", "Java", "Python", "Go", "C#", "Kubernetes", "Spring Boot")) {
+			trigramIndex.add(skill);
+		}
+	}
+
+	@Test
+	public void testTermsAreNormalizedAndDeduplicated() {
+		trigramIndex.add("  JAVA ");
+		assertEquals(7, trigramIndex.size());
+		assertTrue(trigramIndex.contains("spring   boot"));
+		assertFalse(trigramIndex.contains("rust"));
+	}
+
+	@Test
+	public void testExactMatchComesFirst() {
+		List<String> matches = trigramIndex.match("Java", 5);
+		assertEquals("java", matches.get(0));
+	}
+
+	@Test
+	public void testMissingLetterAndTransposition() {
+		assertEquals(List.of("javascript"), trigramIndex.match("javscript", 5));
+		assertEquals(List.of("python"), trigramIndex.match("pyhton", 5));
+	}
+
+	@Test
+	public void testShortTermsMustMatchExactly() {
+		// Up to three characters no edit is allowed.
+		assertEquals(List.of("go"), trigramIndex.match("go", 5));
+		assertTrue(trigramIndex.match("gp", 5).isEmpty());
+		assertTrue(trigramIndex.match("c++", 5).isEmpty());
+	}
+
+	@Test
+	public void testEditBudgetGrowsWithLength() {
+		// Four to six characters allow one edit, seven to twelve two.
+		assertEquals(List.of("java"), trigramIndex.match("jaav", 5));
+		assertEquals(List.of("kubernetes"), trigramIndex.match("kubernets", 5));
+		assertTrue(trigramIndex.match("kubrnts", 5).isEmpty());
+	}
+
+	@Test
+	public void testLimit() {
+		trigramIndex.add("javascripts");
+		assertEquals(1, trigramIndex.match("javascript", 1).size());
+		assertTrue(trigramIndex.match("   ", 5).isEmpty());
+	}
+}